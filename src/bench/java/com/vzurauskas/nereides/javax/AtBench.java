@@ -0,0 +1,80 @@
+package com.vzurauskas.nereides.javax;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Navigation chain {@code at("/ocean").at("/rock1").at("/nereid1")} on an
+ * already parsed document. "Reparsed" does what {@code at} used to do:
+ * writes every step out to bytes and parses them again.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AtBench {
+
+    /**
+     * Chain of at() calls sharing the parsed structure.
+     * @param parsed Parsed document.
+     * @return Nested leaf.
+     */
+    @Benchmark
+    public String chain(Parsed parsed) {
+        return parsed.json.at("/ocean").at("/rock1").at("/nereid1")
+            .leaf("hair");
+    }
+
+    /**
+     * Chain of at() calls, each step serialized and reparsed.
+     * @param parsed Parsed document.
+     * @return Nested leaf.
+     */
+    @Benchmark
+    public String chainReparsed(Parsed parsed) {
+        return reparsed(
+            reparsed(reparsed(parsed.json, "/ocean"), "/rock1"),
+            "/nereid1"
+        ).leaf("hair");
+    }
+
+    private static SmartJson reparsed(SmartJson json, String path) {
+        return new SmartJson(new Json.Of(json.at(path).byteArray()));
+    }
+
+    /**
+     * Payload, parsed in advance.
+     */
+    @State(Scope.Benchmark)
+    public static class Parsed {
+        private SmartJson json;
+
+        /**
+         * Parse the payload.
+         * @param payload Payload to parse.
+         */
+        @Setup
+        public void setUp(Payload payload) {
+            this.json = new SmartJson(payload.json());
+            json.jsonStructure();
+        }
+
+        /**
+         * The parsed payload.
+         * @return Parsed payload.
+         */
+        SmartJson json() {
+            return json;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.vzurauskas.nereides.javax;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+import javax.json.JsonStructure;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Parsing through {@link AutoResetInputStream}, which reads in bulk,
+ * compared to a stream which only overrides single byte reads, like
+ * {@code AutoResetInputStream} used to.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AutoResetBench {
+
+    /**
+     * Parse through a stream which reads in bulk.
+     * @param payload Input document.
+     * @return Parsed document.
+     */
+    @Benchmark
+    public JsonStructure bulk(Payload payload) {
+        return new SmartJson(
+            new Json.Of(
+                new AutoResetInputStream(
+                    new ByteArrayInputStream(payload.bytes())
+                )
+            )
+        ).jsonStructure();
+    }
+
+    /**
+     * Parse through a stream which reads byte by byte.
+     * @param payload Input document.
+     * @return Parsed document.
+     */
+    @Benchmark
+    public JsonStructure byteAtATime(Payload payload) {
+        return new SmartJson(
+            new Json.Of(
+                new ByteAtATime(new ByteArrayInputStream(payload.bytes()))
+            )
+        ).jsonStructure();
+    }
+
+    /**
+     * Stream which only overrides {@link InputStream#read()}.
+     */
+    private static final class ByteAtATime extends InputStream {
+        private final InputStream origin;
+
+        ByteAtATime(InputStream origin) {
+            super();
+            this.origin = origin;
+        }
+
+        @Override
+        public int read() throws IOException {
+            return origin.read();
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.vzurauskas.nereides.javax;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Copying a {@link Json} into a {@link ByteArray}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ByteArrayBench {
+
+    /**
+     * ByteArray over Json.Of(byte[]).
+     * @param payload Input document.
+     * @return Copied bytes.
+     */
+    @Benchmark
+    public byte[] value(Payload payload) {
+        return new ByteArray(payload.json()).value();
+    }
+}
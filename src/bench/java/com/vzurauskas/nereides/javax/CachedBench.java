@@ -0,0 +1,158 @@
+package com.vzurauskas.nereides.javax;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link Cached} compared to memoization with a synchronized method and
+ * with double-checked locking. "Warm" benchmarks read an initialized value
+ * from 8 threads at once, "cold" ones compute a fresh value each time.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CachedBench {
+
+    /**
+     * Read initialized {@link Cached} concurrently.
+     * @param values Shared values.
+     * @return The value.
+     */
+    @Benchmark
+    @Threads(8)
+    public Object warmCached(Values values) {
+        return values.cached.value();
+    }
+
+    /**
+     * Read initialized synchronized memo concurrently.
+     * @param values Shared values.
+     * @return The value.
+     */
+    @Benchmark
+    @Threads(8)
+    public Object warmSynchronized(Values values) {
+        return values.synced.value();
+    }
+
+    /**
+     * Read initialized double-checked memo concurrently.
+     * @param values Shared values.
+     * @return The value.
+     */
+    @Benchmark
+    @Threads(8)
+    public Object warmDoubleChecked(Values values) {
+        return values.checked.value();
+    }
+
+    /**
+     * Create and read {@link Cached}.
+     * @return The value.
+     */
+    @Benchmark
+    public Object coldCached() {
+        return new Cached<>(Object::new).value();
+    }
+
+    /**
+     * Create and read synchronized memo.
+     * @return The value.
+     */
+    @Benchmark
+    public Object coldSynchronized() {
+        return new Synchronized<>(Object::new).value();
+    }
+
+    /**
+     * Create and read double-checked memo.
+     * @return The value.
+     */
+    @Benchmark
+    public Object coldDoubleChecked() {
+        return new DoubleChecked<>(Object::new).value();
+    }
+
+    /**
+     * Initialized memos shared by all threads.
+     */
+    @State(Scope.Benchmark)
+    public static class Values {
+        private Cached<Object> cached;
+        private Synchronized<Object> synced;
+        private DoubleChecked<Object> checked;
+
+        /**
+         * Initialize the memos.
+         */
+        @Setup
+        public void setUp() {
+            this.cached = new Cached<>(Object::new);
+            this.synced = new Synchronized<>(Object::new);
+            this.checked = new DoubleChecked<>(Object::new);
+            cached.value();
+            synced.value();
+            checked.value();
+        }
+    }
+
+    /**
+     * Memo which locks on every read.
+     * @param <T> Type of the value.
+     */
+    private static final class Synchronized<T> {
+        private final Supplier<T> scalar;
+        private T value;
+
+        Synchronized(Supplier<T> scalar) {
+            this.scalar = scalar;
+        }
+
+        synchronized T value() {
+            if (value == null) {
+                value = scalar.get();
+            }
+            return value;
+        }
+    }
+
+    /**
+     * Memo which locks only while the value is not known.
+     * @param <T> Type of the value.
+     */
+    private static final class DoubleChecked<T> {
+        private final Supplier<T> scalar;
+        private volatile T value;
+
+        DoubleChecked(Supplier<T> scalar) {
+            this.scalar = scalar;
+        }
+
+        T value() {
+            T known = value;
+            if (known == null) {
+                synchronized (this) {
+                    known = value;
+                    if (known == null) {
+                        known = scalar.get();
+                        value = known;
+                    }
+                }
+            }
+            return known;
+        }
+    }
+}
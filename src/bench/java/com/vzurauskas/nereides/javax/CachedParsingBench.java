@@ -0,0 +1,48 @@
+package com.vzurauskas.nereides.javax;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * A leaf of a document which comes again and again, each time as new bytes:
+ * parsed each time, or found in a {@link CachedParsing}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CachedParsingBench {
+
+    private final Parsing cached = new CachedParsing(1000, 64L << 20);
+
+    /**
+     * Parsed each time.
+     * @param payload Input document.
+     * @return Top level leaf.
+     */
+    @Benchmark
+    public String parsed(Payload payload) {
+        return new SmartJson(new Json.Of(payload.bytes())).leaf("name");
+    }
+
+    /**
+     * Found in the cache.
+     * @param payload Input document.
+     * @return Top level leaf.
+     */
+    @Benchmark
+    public String cached(Payload payload) {
+        return new SmartJson(new Json.Of(payload.bytes()), cached)
+            .leaf("name");
+    }
+}
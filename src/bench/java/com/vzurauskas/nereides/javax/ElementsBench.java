@@ -0,0 +1,94 @@
+package com.vzurauskas.nereides.javax;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import javax.json.JsonValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Summing a field of every record in a large array: parsing the whole array
+ * at once, or streaming its elements one at a time, sequentially or in
+ * parallel.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ElementsBench {
+
+    @Param({"100000"})
+    private int records;
+
+    private byte[] bytes;
+
+    /**
+     * Generate the array of records.
+     */
+    @Setup
+    public void setUp() {
+        final StringBuilder json = new StringBuilder("{\"records\":[");
+        for (int idx = 0; idx < records; ++idx) {
+            if (idx > 0) {
+                json.append(',');
+            }
+            json.append("{\"name\":\"nereid").append(idx)
+                .append("\",\"hair\":\"black\",\"age\":").append(idx % 100)
+                .append('}');
+        }
+        this.bytes = json.append("]}").toString()
+            .getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * The whole array parsed at once.
+     * @return Sum of ages.
+     */
+    @Benchmark
+    public long parsed() {
+        long sum = 0;
+        for (
+            JsonValue record : new SmartJson(new Json.Of(bytes))
+                .jsonStructure().asJsonObject().getJsonArray("records")
+        ) {
+            sum += record.asJsonObject().getInt("age");
+        }
+        return sum;
+    }
+
+    /**
+     * Elements streamed one at a time.
+     * @return Sum of ages.
+     */
+    @Benchmark
+    public long streamed() {
+        return new Elements(new Json.Of(bytes), new Pointer("/records"))
+            .stream()
+            .mapToLong(record -> record.leafAsInt("age"))
+            .sum();
+    }
+
+    /**
+     * Elements streamed one at a time and processed in parallel.
+     * @return Sum of ages.
+     */
+    @Benchmark
+    public long parallel() {
+        return new Elements(new Json.Of(bytes), new Pointer("/records"))
+            .stream()
+            .parallel()
+            .mapToLong(record -> record.leafAsInt("age"))
+            .sum();
+    }
+}
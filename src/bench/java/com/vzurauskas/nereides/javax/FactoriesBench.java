@@ -0,0 +1,57 @@
+package com.vzurauskas.nereides.javax;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Small operations, where looking up the JSON-P provider and making its
+ * factories is a large part of the cost.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FactoriesBench {
+
+    private final byte[] bytes = "{\"nereid\":\"Thetis\",\"age\":100}"
+        .getBytes();
+
+    /**
+     * Parse a small JSON and get a leaf.
+     * @return The leaf.
+     */
+    @Benchmark
+    public String parse() {
+        return new SmartJson(new Json.Of(bytes)).leaf("nereid");
+    }
+
+    /**
+     * Pretty print a small JSON.
+     * @return Pretty JSON.
+     */
+    @Benchmark
+    public String pretty() {
+        return new SmartJson(new Json.Of(bytes)).pretty();
+    }
+
+    /**
+     * Build a small JSON.
+     * @return Its bytes.
+     */
+    @Benchmark
+    public byte[] build() {
+        return new SmartJson(
+            new MutableJson().with("nereid", "Thetis").with("age", 100)
+        ).byteArray();
+    }
+}
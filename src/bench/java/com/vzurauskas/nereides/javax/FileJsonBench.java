@@ -0,0 +1,88 @@
+package com.vzurauskas.nereides.javax;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JSON in a file: read into the heap by {@link Json.Of}, or mapped by
+ * {@link FileJson}, then parsed lazily for the first field or written out.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FileJsonBench {
+
+    private ByteBuffer buffer;
+
+    /**
+     * Allocate a buffer large enough for any payload.
+     */
+    @Setup
+    public void setUp() {
+        this.buffer = ByteBuffer.allocateDirect(8 << 20);
+    }
+
+    /**
+     * First field of a file read into the heap.
+     * @param payload Payload.
+     * @return The field.
+     */
+    @Benchmark
+    public boolean firstRead(Payload payload) {
+        return new SmartJson(
+            new Json.Of(payload.path()), new Parsing.Lazy()
+        ).at("/ocean").isMissing();
+    }
+
+    /**
+     * First field of a mapped file.
+     * @param payload Payload.
+     * @return The field.
+     */
+    @Benchmark
+    public boolean firstMapped(Payload payload) {
+        return new SmartJson(
+            new FileJson(payload.path()), new Parsing.Lazy()
+        ).at("/ocean").isMissing();
+    }
+
+    /**
+     * A file read into the heap, written to a buffer.
+     * @param payload Payload.
+     * @return The buffer.
+     * @throws IOException Never.
+     */
+    @Benchmark
+    public ByteBuffer writeRead(Payload payload) throws IOException {
+        buffer.clear();
+        new Json.Of(payload.path()).writeTo(buffer);
+        return buffer;
+    }
+
+    /**
+     * A mapped file, written to a buffer.
+     * @param payload Payload.
+     * @return The buffer.
+     * @throws IOException Never.
+     */
+    @Benchmark
+    public ByteBuffer writeMapped(Payload payload) throws IOException {
+        buffer.clear();
+        new FileJson(payload.path()).writeTo(buffer);
+        return buffer;
+    }
+}
@@ -0,0 +1,48 @@
+package com.vzurauskas.nereides.javax;
+
+import java.util.concurrent.TimeUnit;
+import javax.json.JsonStructure;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Parsing of a whole document, as {@link Parsing.Full} does it, or with
+ * field names and short values shared by {@link InternedParsing}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InternedParsingBench {
+
+    private final Parsing interned = new InternedParsing(10_000, 8);
+
+    /**
+     * Parsed by {@link Parsing.Full}.
+     * @param payload Input document.
+     * @return Structure.
+     */
+    @Benchmark
+    public JsonStructure full(Payload payload) {
+        return new SmartJson(payload.json()).jsonStructure();
+    }
+
+    /**
+     * Parsed by {@link InternedParsing}.
+     * @param payload Input document.
+     * @return Structure.
+     */
+    @Benchmark
+    public JsonStructure interned(Payload payload) {
+        return new SmartJson(payload.json(), interned).jsonStructure();
+    }
+}
@@ -0,0 +1,155 @@
+package com.vzurauskas.nereides.javax;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Reading and writing JSON Lines of about 2 MB: line by line through
+ * {@link BufferedReader} and {@link Json.Of}, as it has to be done without
+ * {@link JsonLines}, or through {@link JsonLines} and
+ * {@link JsonLinesWriter}. Multiply operations per second by the size
+ * printed at setup to get MB/s.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonLinesBench {
+
+    private byte[] bytes;
+    private List<Json> lines;
+
+    /**
+     * Generate the lines.
+     */
+    @Setup
+    public void setUp() {
+        final StringBuilder log = new StringBuilder();
+        for (int idx = 0; idx < 20_000; ++idx) {
+            log.append("{\"time\":").append(1_600_000_000L + idx)
+                .append(",\"level\":\"INFO\",\"nereid\":\"nereid")
+                .append(idx).append("\",\"message\":\"swimming near rock ")
+                .append(idx % 17).append("\"}\n");
+        }
+        this.bytes = log.toString().getBytes(StandardCharsets.UTF_8);
+        this.lines = new JsonLines(new ByteArrayInputStream(bytes)).stream()
+            .collect(Collectors.toList());
+        System.out.printf("%nLines: %.2f MB%n", bytes.length / 1e6);
+    }
+
+    /**
+     * Lines read as strings, each made into a {@link Json.Of}.
+     * @return Sum of times.
+     * @throws IOException Never.
+     */
+    @Benchmark
+    public long readStrings() throws IOException {
+        long sum = 0;
+        try (
+            BufferedReader reader = new BufferedReader(
+                new InputStreamReader(
+                    new ByteArrayInputStream(bytes), StandardCharsets.UTF_8
+                )
+            )
+        ) {
+            for (
+                String line = reader.readLine();
+                line != null;
+                line = reader.readLine()
+            ) {
+                sum += new SmartJson(new Json.Of(line)).leafAsInt("time");
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * Lines read through {@link JsonLines}.
+     * @return Sum of times.
+     */
+    @Benchmark
+    public long readLines() {
+        return new JsonLines(new ByteArrayInputStream(bytes)).stream()
+            .mapToLong(line -> new SmartJson(line).leafAsInt("time"))
+            .sum();
+    }
+
+    /**
+     * Lines only split, through {@link JsonLines}.
+     * @return Number of lines.
+     */
+    @Benchmark
+    public long splitLines() {
+        return new JsonLines(new ByteArrayInputStream(bytes)).stream()
+            .count();
+    }
+
+    /**
+     * Lines written one by one, each copied into an array first.
+     * @param hole Blackhole.
+     * @throws IOException Never.
+     */
+    @Benchmark
+    public void writeCopies(Blackhole hole) throws IOException {
+        final OutputStream output = new Discard(hole);
+        for (Json line : lines) {
+            output.write(new ByteArray(line).value());
+            output.write('\n');
+        }
+    }
+
+    /**
+     * Lines written through {@link JsonLinesWriter}.
+     * @param hole Blackhole.
+     * @throws IOException Never.
+     */
+    @Benchmark
+    public void writeLines(Blackhole hole) throws IOException {
+        try (JsonLinesWriter writer = new JsonLinesWriter(new Discard(hole))) {
+            writer.write(lines);
+        }
+    }
+
+    /**
+     * Stream, which only shows what is written to a blackhole.
+     */
+    private static final class Discard extends OutputStream {
+        private final Blackhole hole;
+
+        Discard(Blackhole hole) {
+            super();
+            this.hole = hole;
+        }
+
+        @Override
+        public void write(int data) {
+            hole.consume(data);
+        }
+
+        @Override
+        public void write(byte[] data, int offset, int length) {
+            hole.consume(data);
+            hole.consume(offset + length);
+        }
+    }
+}
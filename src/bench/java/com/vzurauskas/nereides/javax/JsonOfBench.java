@@ -0,0 +1,86 @@
+package com.vzurauskas.nereides.javax;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import javax.json.JsonStructure;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Construction of {@link Json.Of} from various sources, followed by reading
+ * all of its bytes.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonOfBench {
+
+    /**
+     * Json.Of(String).
+     * @param payload Input document.
+     * @return Bytes of the document.
+     */
+    @Benchmark
+    public byte[] ofString(Payload payload) {
+        return new ByteArray(new Json.Of(payload.string())).value();
+    }
+
+    /**
+     * Json.Of(String), parsed from its characters.
+     * @param payload Input document.
+     * @return Structure.
+     */
+    @Benchmark
+    public JsonStructure parsedString(Payload payload) {
+        return new SmartJson(new Json.Of(payload.string())).jsonStructure();
+    }
+
+    /**
+     * Json.Of(String), encoded in UTF-8 first, and parsed from its bytes.
+     * @param payload Input document.
+     * @return Structure.
+     */
+    @Benchmark
+    public JsonStructure parsedEncoded(Payload payload) {
+        return new SmartJson(
+            new Json.Of(payload.string().getBytes(StandardCharsets.UTF_8))
+        ).jsonStructure();
+    }
+
+    /**
+     * Json.Of(byte[]).
+     * @param payload Input document.
+     * @return Bytes of the document.
+     */
+    @Benchmark
+    public byte[] ofBytes(Payload payload) {
+        return new ByteArray(new Json.Of(payload.bytes())).value();
+    }
+
+    /**
+     * Json.Of(Path).
+     * @param payload Input document.
+     * @return Bytes of the document.
+     */
+    @Benchmark
+    public byte[] ofPath(Payload payload) {
+        return new ByteArray(new Json.Of(payload.path())).value();
+    }
+
+    /**
+     * Json.Of(JsonStructure).
+     * @param payload Input document.
+     * @return Bytes of the document.
+     */
+    @Benchmark
+    public byte[] ofStructure(Structure payload) {
+        return new ByteArray(new Json.Of(payload.value())).value();
+    }
+}
@@ -0,0 +1,88 @@
+package com.vzurauskas.nereides.javax;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Time to get a field out of a fresh document with {@link Parsing.Lazy},
+ * compared to {@link Parsing.Full}. "First" is the first field of the
+ * document, "last" comes after everything else, "nested" is three levels
+ * deep.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LazyBench {
+
+    /**
+     * First field, full parsing.
+     * @param payload Input document.
+     * @return The field.
+     */
+    @Benchmark
+    public String firstFull(Payload payload) {
+        return new SmartJson(payload.json(), new Parsing.Full()).leaf("name");
+    }
+
+    /**
+     * First field, lazy parsing.
+     * @param payload Input document.
+     * @return The field.
+     */
+    @Benchmark
+    public String firstLazy(Payload payload) {
+        return new SmartJson(payload.json(), new Parsing.Lazy()).leaf("name");
+    }
+
+    /**
+     * Last field, full parsing.
+     * @param payload Input document.
+     * @return The field.
+     */
+    @Benchmark
+    public int lastFull(Payload payload) {
+        return new SmartJson(payload.json(), new Parsing.Full())
+            .leafAsInt("version");
+    }
+
+    /**
+     * Last field, lazy parsing.
+     * @param payload Input document.
+     * @return The field.
+     */
+    @Benchmark
+    public int lastLazy(Payload payload) {
+        return new SmartJson(payload.json(), new Parsing.Lazy())
+            .leafAsInt("version");
+    }
+
+    /**
+     * Nested field, full parsing.
+     * @param payload Input document.
+     * @return The field.
+     */
+    @Benchmark
+    public String nestedFull(Payload payload) {
+        return new SmartJson(payload.json(), new Parsing.Full())
+            .at("/ocean/rock1/nereid1").leaf("hair");
+    }
+
+    /**
+     * Nested field, lazy parsing.
+     * @param payload Input document.
+     * @return The field.
+     */
+    @Benchmark
+    public String nestedLazy(Payload payload) {
+        return new SmartJson(payload.json(), new Parsing.Lazy())
+            .at("/ocean/rock1/nereid1").leaf("hair");
+    }
+}
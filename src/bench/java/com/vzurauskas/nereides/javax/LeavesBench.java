@@ -0,0 +1,146 @@
+package com.vzurauskas.nereides.javax;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Extraction of twelve values, as when building an object out of a JSON:
+ * one by one with {@code optLeaf} and the like, or all at once with
+ * {@link Leaves}. "Fresh" variants start from bytes, others from an already
+ * parsed document. "Optionals" and "fallbacks" take only the numbers, as
+ * boxed optionals or as primitives with a fallback, to compare how much
+ * they allocate.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LeavesBench {
+
+    private final Pointer[] strings = {
+        new Pointer("/name"),
+        new Pointer("/ocean/rock1/nereid1/hair"),
+        new Pointer("/ocean/rock1/nereid1/associates/0/name"),
+        new Pointer("/ocean/rock1/nereid1/associates/1/name"),
+        new Pointer("/ocean/rock1/nereid2/hair"),
+        new Pointer("/ocean/rock2/nereid3/hair"),
+        new Pointer("/crowd/0/name"),
+    };
+
+    private final Pointer[] numbers = {
+        new Pointer("/ocean/rock1/nereid1/age"),
+        new Pointer("/ocean/rock1/nereid2/age"),
+        new Pointer("/ocean/rock2/nereid3/age"),
+        new Pointer("/crowd/0/age"),
+        new Pointer("/version"),
+    };
+
+    private final Pointers digits = new Pointers(numbers);
+
+    private final Pointers all = new Pointers(
+        strings[0], strings[1], strings[2], strings[3], strings[4],
+        strings[5], strings[6],
+        numbers[0], numbers[1], numbers[2], numbers[3], numbers[4]
+    );
+
+    /**
+     * One by one, from bytes.
+     * @param payload Payload.
+     * @param hole Blackhole.
+     */
+    @Benchmark
+    public void separateFresh(Payload payload, Blackhole hole) {
+        separate(new SmartJson(payload.json()), hole);
+    }
+
+    /**
+     * All at once, from bytes.
+     * @param payload Payload.
+     * @param hole Blackhole.
+     */
+    @Benchmark
+    public void leavesFresh(Payload payload, Blackhole hole) {
+        leaves(new SmartJson(payload.json()), hole);
+    }
+
+    /**
+     * One by one, from a parsed document.
+     * @param parsed Parsed payload.
+     * @param hole Blackhole.
+     */
+    @Benchmark
+    public void separate(AtBench.Parsed parsed, Blackhole hole) {
+        separate(parsed.json(), hole);
+    }
+
+    /**
+     * All at once, from a parsed document.
+     * @param parsed Parsed payload.
+     * @param hole Blackhole.
+     */
+    @Benchmark
+    public void leaves(AtBench.Parsed parsed, Blackhole hole) {
+        leaves(parsed.json(), hole);
+    }
+
+    /**
+     * Numbers one by one, as optionals, from a parsed document.
+     * @param parsed Parsed payload.
+     * @param hole Blackhole.
+     */
+    @Benchmark
+    public void optionals(AtBench.Parsed parsed, Blackhole hole) {
+        for (Pointer pointer : numbers) {
+            hole.consume(parsed.json().optLeafAsDouble(pointer).orElse(0.0));
+        }
+    }
+
+    /**
+     * Numbers all at once, as primitives with a fallback, from a parsed
+     * document.
+     * @param parsed Parsed payload.
+     * @param hole Blackhole.
+     */
+    @Benchmark
+    public void fallbacks(AtBench.Parsed parsed, Blackhole hole) {
+        Leaves leaves = new Leaves(parsed.json(), digits);
+        for (int idx = 0; idx < numbers.length; ++idx) {
+            hole.consume(leaves.leafAsDouble(idx, 0.0));
+        }
+    }
+
+    private void separate(SmartJson json, Blackhole hole) {
+        for (Pointer pointer : strings) {
+            hole.consume(json.optLeaf(pointer).orElse(""));
+        }
+        for (Pointer pointer : numbers) {
+            hole.consume(json.optLeafAsDouble(pointer).orElse(0.0));
+        }
+    }
+
+    private void leaves(SmartJson json, Blackhole hole) {
+        Leaves leaves = new Leaves(json, all);
+        int count = strings.length + numbers.length;
+        for (int idx = 0; idx < strings.length; ++idx) {
+            if (leaves.has(idx)) {
+                hole.consume(leaves.leaf(idx));
+            }
+        }
+        for (int idx = strings.length; idx < count; ++idx) {
+            if (leaves.has(idx)) {
+                hole.consume(leaves.leafAsDouble(idx));
+            }
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.vzurauskas.nereides.javax;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Assembling a {@link MutableJson} and reading its bytes, compared with
+ * {@link PatchedJson}, which is how it used to be done.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MutableJsonBench {
+
+    /**
+     * Object with the given number of scalar fields.
+     * @param width Number of fields.
+     * @return Bytes of the object.
+     */
+    @Benchmark
+    public byte[] wide(Width width) {
+        MutableJson json = new MutableJson();
+        for (int idx = 0; idx < width.fields; ++idx) {
+            json.with("field" + idx, idx);
+        }
+        return new ByteArray(json).value();
+    }
+
+    /**
+     * Object with the given number of scalar fields, built as a patch.
+     * @param width Number of fields.
+     * @return Bytes of the object.
+     */
+    @Benchmark
+    public byte[] widePatched(Width width) {
+        PatchedJson json = new PatchedJson();
+        for (int idx = 0; idx < width.fields; ++idx) {
+            json.with("field" + idx, idx);
+        }
+        return new ByteArray(json).value();
+    }
+
+    /**
+     * Object with the given number of scalar fields, read three times.
+     * @param width Number of fields.
+     * @return Bytes of the object.
+     */
+    @Benchmark
+    public byte[] reread(Width width) {
+        MutableJson json = new MutableJson();
+        for (int idx = 0; idx < width.fields; ++idx) {
+            json.with("field" + idx, idx);
+        }
+        new ByteArray(json).value();
+        new ByteArray(json).value();
+        return new ByteArray(json).value();
+    }
+
+    /**
+     * Object with the given number of scalar fields, built as a patch and
+     * read three times.
+     * @param width Number of fields.
+     * @return Bytes of the object.
+     */
+    @Benchmark
+    public byte[] rereadPatched(Width width) {
+        PatchedJson json = new PatchedJson();
+        for (int idx = 0; idx < width.fields; ++idx) {
+            json.with("field" + idx, idx);
+        }
+        new ByteArray(json).value();
+        new ByteArray(json).value();
+        return new ByteArray(json).value();
+    }
+
+    /**
+     * Object with a few scalar fields and the payload nested in it.
+     * @param payload Nested document.
+     * @return Bytes of the object.
+     */
+    @Benchmark
+    public byte[] nested(Payload payload) {
+        return new ByteArray(
+            new MutableJson()
+                .with("id", 7)
+                .with("name", "Nereus")
+                .with("fair", true)
+                .with("payload", payload.json())
+        ).value();
+    }
+
+    /**
+     * Object with a few scalar fields and the payload nested in it, built
+     * as a patch.
+     * @param payload Nested document.
+     * @return Bytes of the object.
+     */
+    @Benchmark
+    public byte[] nestedPatched(Payload payload) {
+        return new ByteArray(
+            new PatchedJson()
+                .with("id", 7)
+                .with("name", "Nereus")
+                .with("fair", true)
+                .with("payload", payload.json())
+        ).value();
+    }
+
+    /**
+     * Object nested the given number of levels deep, each level with a few
+     * fields of its own.
+     * @param depth Number of levels.
+     * @return Bytes of the object.
+     */
+    @Benchmark
+    public byte[] deep(Depth depth) {
+        MutableJson json = level(0);
+        for (int idx = 1; idx < depth.levels; ++idx) {
+            json = level(idx).with("nested", json);
+        }
+        return new ByteArray(json).value();
+    }
+
+    /**
+     * Object nested the given number of levels deep, each level written out
+     * and parsed again by the level above, as it used to be.
+     * @param depth Number of levels.
+     * @return Bytes of the object.
+     */
+    @Benchmark
+    public byte[] deepReparsed(Depth depth) {
+        MutableJson json = level(0);
+        for (int idx = 1; idx < depth.levels; ++idx) {
+            json = level(idx).with(
+                "nested", new Json.Of(new ByteArray(json).value())
+            );
+        }
+        return new ByteArray(json).value();
+    }
+
+    private static MutableJson level(int idx) {
+        return new MutableJson()
+            .with("level", idx)
+            .with("name", "level" + idx)
+            .with("deep", true);
+    }
+
+    /**
+     * Number of fields in a wide object.
+     */
+    @State(Scope.Benchmark)
+    public static class Width {
+        @Param({"5", "50", "200"})
+        private int fields;
+    }
+
+    /**
+     * Number of levels in a deep object.
+     */
+    @State(Scope.Benchmark)
+    public static class Depth {
+        @Param({"5", "20", "50"})
+        private int levels;
+    }
+}
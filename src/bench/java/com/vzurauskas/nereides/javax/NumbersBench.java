@@ -0,0 +1,105 @@
+package com.vzurauskas.nereides.javax;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import javax.json.JsonArray;
+import javax.json.JsonArrayBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * A vector of doubles, read out of a JSON and written into one: through
+ * {@link JsonArray}s of {@link javax.json.JsonNumber}s, or as primitives
+ * with {@link Numbers} and {@link MutableJson#with(String, double[])}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NumbersBench {
+
+    @Param({"50000"})
+    private int size;
+
+    private double[] vector;
+
+    private byte[] bytes;
+
+    /**
+     * Generate the vector.
+     */
+    @Setup
+    public void setUp() {
+        this.vector = new double[size];
+        final StringBuilder json = new StringBuilder("{\"vector\":[");
+        for (int idx = 0; idx < size; ++idx) {
+            vector[idx] = idx / 7.0;
+            if (idx > 0) {
+                json.append(',');
+            }
+            json.append(vector[idx]);
+        }
+        this.bytes = json.append("]}").toString()
+            .getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * The document parsed, then the array of numbers copied out.
+     * @return The vector.
+     */
+    @Benchmark
+    public double[] parsed() {
+        final JsonArray array = new SmartJson(new Json.Of(bytes))
+            .jsonStructure().asJsonObject().getJsonArray("vector");
+        final double[] values = new double[array.size()];
+        for (int idx = 0; idx < values.length; ++idx) {
+            values[idx] = array.getJsonNumber(idx).doubleValue();
+        }
+        return values;
+    }
+
+    /**
+     * Numbers read straight from the bytes.
+     * @return The vector.
+     */
+    @Benchmark
+    public double[] streamed() {
+        return new Numbers(new Json.Of(bytes), new Pointer("/vector"))
+            .doubles();
+    }
+
+    /**
+     * A {@link JsonArray} built and written out.
+     * @return Length of the document.
+     */
+    @Benchmark
+    public int built() {
+        final JsonArrayBuilder array = Factories.SHARED.builders()
+            .createArrayBuilder();
+        for (double value : vector) {
+            array.add(value);
+        }
+        return new MutableJson().with("vector", new Json.Of(array.build()))
+            .toString().length();
+    }
+
+    /**
+     * Primitives written out one by one.
+     * @return Length of the document.
+     */
+    @Benchmark
+    public int emitted() {
+        return new MutableJson().with("vector", vector).toString().length();
+    }
+}
@@ -0,0 +1,116 @@
+package com.vzurauskas.nereides.javax;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * A cache of documents under steady churn: each operation replaces one of
+ * the documents with a new one and reads a leaf of another. The documents
+ * are kept on the heap, as {@link Json.Of}, or off the heap, as
+ * {@link OffHeapJson}. Time spent in garbage collection is reported as
+ * "gc.time" by the GC profiler, which the bench profile always runs.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(
+    value = 1,
+    jvmArgsAppend = {"-Xmx2g", "-XX:MaxDirectMemorySize=2g"}
+)
+@State(Scope.Benchmark)
+public class OffHeapJsonBench {
+
+    @Param({"4096"})
+    private int documents;
+
+    private byte[] bytes;
+
+    private Json[] heap;
+
+    private OffHeapJson[] off;
+
+    private Slab slab;
+
+    private int next;
+
+    /**
+     * Generate a document of about 30 KiB, and fill both caches with it.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        final StringBuilder json = new StringBuilder("{\"name\":\"Nereus\",")
+            .append("\"crowd\":[");
+        for (int idx = 0; idx < 1000; ++idx) {
+            if (idx > 0) {
+                json.append(',');
+            }
+            json.append("{\"id\":").append(idx)
+                .append(",\"name\":\"nereid").append(idx).append("\"}");
+        }
+        this.bytes = json.append("]}").toString()
+            .getBytes(StandardCharsets.UTF_8);
+        this.heap = new Json[documents];
+        this.off = new OffHeapJson[documents];
+        this.slab = new Slab();
+        for (int idx = 0; idx < documents; ++idx) {
+            heap[idx] = new Json.Of(bytes.clone());
+            off[idx] = new OffHeapJson(new Json.Of(bytes), slab);
+        }
+    }
+
+    /**
+     * Release the off-heap documents.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        for (OffHeapJson json : off) {
+            json.close();
+        }
+    }
+
+    /**
+     * Documents kept on the heap.
+     * @return Leaf of a document.
+     */
+    @Benchmark
+    public String onHeap() {
+        final int slot = slot();
+        heap[slot] = new Json.Of(bytes.clone());
+        return new SmartJson(
+            heap[(slot + documents / 2) % documents], new Parsing.Lazy()
+        ).leaf("name");
+    }
+
+    /**
+     * Documents kept off the heap.
+     * @return Leaf of a document.
+     */
+    @Benchmark
+    public String offHeap() {
+        final int slot = slot();
+        off[slot].close();
+        off[slot] = new OffHeapJson(new Json.Of(bytes), slab);
+        return new SmartJson(
+            off[(slot + documents / 2) % documents], new Parsing.Lazy()
+        ).leaf("name");
+    }
+
+    private int slot() {
+        next = (next + 1) % documents;
+        return next;
+    }
+}
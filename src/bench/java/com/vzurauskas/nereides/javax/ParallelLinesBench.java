@@ -0,0 +1,98 @@
+package com.vzurauskas.nereides.javax;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Parsing about 20 MB of JSON Lines and summing a field of each: one line
+ * after another with {@link JsonLines}, or with {@link ParallelLines} in a
+ * pool of the given number of threads.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParallelLinesBench {
+
+    @Param({"1", "2", "4", "8", "16"})
+    private int threads;
+
+    private Path file;
+    private ForkJoinPool pool;
+
+    /**
+     * Write the lines to a temporary file and start the pool.
+     * @throws IOException If the file cannot be written.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        final StringBuilder log = new StringBuilder();
+        for (int idx = 0; idx < 200_000; ++idx) {
+            log.append("{\"time\":").append(idx)
+                .append(",\"level\":\"INFO\",\"nereid\":\"nereid")
+                .append(idx).append("\",\"message\":\"swimming near rock ")
+                .append(idx % 17).append("\"}\n");
+        }
+        this.file = Files.createTempFile("nereides-bench", ".jsonl");
+        Files.write(file, log.toString().getBytes(StandardCharsets.UTF_8));
+        this.pool = new ForkJoinPool(threads);
+    }
+
+    /**
+     * Delete the file and stop the pool.
+     * @throws IOException If the file cannot be deleted.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        pool.shutdown();
+        Files.delete(file);
+    }
+
+    /**
+     * Lines parsed one after another.
+     * @return Sum of times.
+     */
+    @Benchmark
+    public long sequential() {
+        try (Stream<Json> lines = new JsonLines(file).stream()) {
+            return lines
+                .mapToLong(line -> new SmartJson(line).leafAsInt("time"))
+                .sum();
+        }
+    }
+
+    /**
+     * Lines parsed in parallel, in order.
+     * @return Sum of times.
+     * @throws InterruptedException If interrupted.
+     * @throws ExecutionException If parsing fails.
+     */
+    @Benchmark
+    public long parallel() throws InterruptedException, ExecutionException {
+        try (Stream<SmartJson> lines = new ParallelLines(file).stream()) {
+            return pool.submit(
+                () -> lines.mapToLong(line -> line.leafAsInt("time")).sum()
+            ).get();
+        }
+    }
+}
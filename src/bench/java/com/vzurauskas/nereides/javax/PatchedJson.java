@@ -0,0 +1,47 @@
+package com.vzurauskas.nereides.javax;
+
+import java.io.InputStream;
+import javax.json.JsonObject;
+import javax.json.JsonPatchBuilder;
+
+/**
+ * {@link MutableJson} as it was before it kept its fields itself: each
+ * field is an operation of a JSON patch, which is applied to the base
+ * object whenever bytes are asked for. Kept for comparison.
+ */
+final class PatchedJson implements Json {
+
+    private JsonObject base;
+    private final JsonPatchBuilder patch;
+
+    PatchedJson() {
+        this.base = javax.json.Json.createObjectBuilder().build();
+        this.patch = javax.json.Json.createPatchBuilder();
+    }
+
+    PatchedJson with(String name, int value) {
+        patch.add('/' + name, value);
+        return this;
+    }
+
+    PatchedJson with(String name, String value) {
+        patch.add('/' + name, value);
+        return this;
+    }
+
+    PatchedJson with(String name, boolean value) {
+        patch.add('/' + name, value);
+        return this;
+    }
+
+    PatchedJson with(String name, Json value) {
+        patch.add('/' + name, new SmartJson(value).jsonStructure());
+        return this;
+    }
+
+    @Override
+    public InputStream bytes() {
+        this.base = patch.build().apply(base);
+        return new Json.Of(base).bytes();
+    }
+}
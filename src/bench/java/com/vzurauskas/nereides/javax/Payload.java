@@ -0,0 +1,105 @@
+package com.vzurauskas.nereides.javax;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import javax.json.JsonStructure;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * JSON document used as input by benchmarks. It comes in three sizes:
+ * small (a few dozen bytes), medium (shaped like deep.json, about
+ * a kilobyte) and large (same shape with a crowd of nereids, about 4 MB).
+ * All sizes have a top level "name" leaf at the start, "version" leaf at
+ * the end and "/ocean/rock1/nereid1" path.
+ */
+@State(Scope.Benchmark)
+public class Payload {
+
+    @Param({"small", "medium", "large"})
+    private String size;
+
+    private byte[] bytes;
+    private Path file;
+
+    /**
+     * Generate the document and write it to a temporary file.
+     * @throws IOException If the file cannot be written.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        final int crowd;
+        if ("small".equals(size)) {
+            crowd = -1;
+        } else if ("medium".equals(size)) {
+            crowd = 8;
+        } else {
+            crowd = 40_000;
+        }
+        this.bytes = document(crowd).getBytes(StandardCharsets.UTF_8);
+        this.file = Files.createTempFile("nereides-bench", ".json");
+        Files.write(file, bytes);
+    }
+
+    /**
+     * Delete the temporary file.
+     * @throws IOException If the file cannot be deleted.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.delete(file);
+    }
+
+    byte[] bytes() {
+        return bytes;
+    }
+
+    String string() {
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    Path path() {
+        return file;
+    }
+
+    JsonStructure structure() {
+        return new SmartJson(new Json.Of(bytes)).jsonStructure();
+    }
+
+    Json json() {
+        return new Json.Of(bytes);
+    }
+
+    private static String document(int crowd) {
+        if (crowd < 0) {
+            return "{\"name\":\"Nereus\",\"ocean\":{\"rock1\":{\"nereid1\":"
+                + "{\"hair\":\"black\",\"age\":100}}},\"version\":3}";
+        }
+        StringBuilder json = new StringBuilder(crowd * 100 + 512)
+            .append("{\"name\":\"Nereus\",\"ocean\":{\"rock1\":{")
+            .append("\"nereid1\":{\"hair\":\"black\",\"age\":100,")
+            .append("\"associates\":[{\"name\":\"Jason\"},")
+            .append("{\"name\":\"Thetis\"}]},")
+            .append("\"nereid2\":{\"hair\":\"red\",\"age\":77.5}},")
+            .append("\"rock2\":{\"nereid3\":{\"hair\":\"blonde\",")
+            .append("\"age\":88,\"fair\":true}}},\"crowd\":[");
+        for (int idx = 0; idx < crowd; ++idx) {
+            if (idx > 0) {
+                json.append(',');
+            }
+            json.append("{\"id\":").append(idx)
+                .append(",\"name\":\"nereid").append(idx)
+                .append("\",\"hair\":\"").append(idx % 2 == 0 ? "red" : "black")
+                .append("\",\"age\":").append(idx % 300 + 0.5)
+                .append(",\"fair\":").append(idx % 3 == 0)
+                .append(",\"rocks\":[").append(idx % 7).append(',')
+                .append(idx % 11).append("]}");
+        }
+        return json.append("],\"version\":3}").toString();
+    }
+}
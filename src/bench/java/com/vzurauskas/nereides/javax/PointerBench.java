@@ -0,0 +1,59 @@
+package com.vzurauskas.nereides.javax;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Repeated lookup of {@code /ocean/rock1/nereid1} on an already parsed
+ * document: with the path given as a string each time, with a pointer
+ * compiled once, and with the pointer of javax.json, which is what
+ * {@code at} used before.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PointerBench {
+
+    private final Pointer pointer = new Pointer("/ocean/rock1/nereid1");
+
+    /**
+     * Path given as a string.
+     * @param parsed Parsed document.
+     * @return Nested leaf.
+     */
+    @Benchmark
+    public String string(AtBench.Parsed parsed) {
+        return parsed.json().at("/ocean/rock1/nereid1").leaf("hair");
+    }
+
+    /**
+     * Path compiled into a pointer once.
+     * @param parsed Parsed document.
+     * @return Nested leaf.
+     */
+    @Benchmark
+    public String compiled(AtBench.Parsed parsed) {
+        return parsed.json().at(pointer).leaf("hair");
+    }
+
+    /**
+     * Path resolved by javax.json.
+     * @param parsed Parsed document.
+     * @return Nested value.
+     */
+    @Benchmark
+    public Object javax(AtBench.Parsed parsed) {
+        return parsed.json().jsonStructure().getValue("/ocean/rock1/nereid1");
+    }
+}
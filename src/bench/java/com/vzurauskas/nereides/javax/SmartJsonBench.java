@@ -0,0 +1,117 @@
+package com.vzurauskas.nereides.javax;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link SmartJson} operations, each on a freshly wrapped document, so the
+ * cost of parsing is included.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SmartJsonBench {
+
+    /**
+     * SmartJson.textual().
+     * @param payload Input document.
+     * @return Textual document.
+     */
+    @Benchmark
+    public String textual(Payload payload) {
+        return new SmartJson(payload.json()).textual();
+    }
+
+    /**
+     * SmartJson.textual() of a lazily parsed document.
+     * @param payload Input document.
+     * @return Textual document.
+     */
+    @Benchmark
+    public String textualLazy(Payload payload) {
+        return new SmartJson(payload.json(), new Parsing.Lazy()).textual();
+    }
+
+    /**
+     * SmartJson.textual(), SmartJson.pretty() and SmartJson.toString(),
+     * called again on the same document, as logging does.
+     * @param wrapped Wrapped document.
+     * @return Length of the representations.
+     */
+    @Benchmark
+    public int again(Wrapped wrapped) {
+        return wrapped.json.textual().length()
+            + wrapped.json.pretty().length()
+            + wrapped.json.toString().length();
+    }
+
+    /**
+     * SmartJson.pretty().
+     * @param payload Input document.
+     * @return Pretty document.
+     */
+    @Benchmark
+    public String pretty(Payload payload) {
+        return new SmartJson(payload.json()).pretty();
+    }
+
+    /**
+     * SmartJson.leaf(String).
+     * @param payload Input document.
+     * @return Top level leaf.
+     */
+    @Benchmark
+    public String leaf(Payload payload) {
+        return new SmartJson(payload.json()).leaf("name");
+    }
+
+    /**
+     * SmartJson.at(String) followed by a leaf.
+     * @param payload Input document.
+     * @return Nested leaf.
+     */
+    @Benchmark
+    public String at(Payload payload) {
+        return new SmartJson(payload.json())
+            .at("/ocean/rock1/nereid1")
+            .leaf("hair");
+    }
+
+    /**
+     * SmartJson.isMissing() of a document which has not been read yet.
+     * @param payload Input document.
+     * @return Whether the document is missing.
+     */
+    @Benchmark
+    public boolean isMissing(Payload payload) {
+        return new SmartJson(payload.json()).isMissing();
+    }
+
+    /**
+     * Document wrapped once, used by many calls.
+     */
+    @State(Scope.Benchmark)
+    public static class Wrapped {
+        private SmartJson json;
+
+        /**
+         * Wrap the document.
+         * @param payload Input document.
+         */
+        @Setup
+        public void setUp(Payload payload) {
+            this.json = new SmartJson(payload.json());
+        }
+    }
+}
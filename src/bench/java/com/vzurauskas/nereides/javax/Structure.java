@@ -0,0 +1,28 @@
+package com.vzurauskas.nereides.javax;
+
+import javax.json.JsonStructure;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * {@link Payload}, parsed to {@link JsonStructure} in advance.
+ */
+@State(Scope.Benchmark)
+public class Structure {
+
+    private JsonStructure structure;
+
+    /**
+     * Parse the payload.
+     * @param payload Payload to parse.
+     */
+    @Setup
+    public void setUp(Payload payload) {
+        this.structure = payload.structure();
+    }
+
+    JsonStructure value() {
+        return structure;
+    }
+}
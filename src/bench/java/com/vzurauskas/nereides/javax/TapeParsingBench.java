@@ -0,0 +1,71 @@
+package com.vzurauskas.nereides.javax;
+
+import java.util.concurrent.TimeUnit;
+import javax.json.JsonStructure;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Parsing of a whole document into a tree of JSON-P values, as
+ * {@link Parsing.Full} does it, or into a flat index over the bytes, as
+ * {@link TapeParsing} does it, and a leaf read from each.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TapeParsingBench {
+
+    private final Parsing tape = new TapeParsing();
+
+    /**
+     * Parsed by {@link Parsing.Full}.
+     * @param payload Input document.
+     * @return Structure.
+     */
+    @Benchmark
+    public JsonStructure full(Payload payload) {
+        return new SmartJson(payload.json()).jsonStructure();
+    }
+
+    /**
+     * Parsed by {@link TapeParsing}.
+     * @param payload Input document.
+     * @return Structure.
+     */
+    @Benchmark
+    public JsonStructure tape(Payload payload) {
+        return new SmartJson(payload.json(), tape).jsonStructure();
+    }
+
+    /**
+     * Leaf at the end of the document, parsed by {@link Parsing.Full}.
+     * @param payload Input document.
+     * @return Leaf.
+     */
+    @Benchmark
+    public int fullLeaf(Payload payload) {
+        return new SmartJson(payload.json()).jsonStructure().asJsonObject()
+            .getInt("version");
+    }
+
+    /**
+     * Leaf at the end of the document, parsed by {@link TapeParsing}.
+     * @param payload Input document.
+     * @return Leaf.
+     */
+    @Benchmark
+    public int tapeLeaf(Payload payload) {
+        return new SmartJson(payload.json(), tape).jsonStructure()
+            .asJsonObject().getInt("version");
+    }
+}
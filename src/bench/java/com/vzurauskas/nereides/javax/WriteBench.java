@@ -0,0 +1,127 @@
+package com.vzurauskas.nereides.javax;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Sending a JSON somewhere, e.g. as an HTTP response: copying its bytes
+ * into an array first, as was the only way before, or writing it to the
+ * sink directly.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WriteBench {
+
+    private ByteBuffer buffer;
+
+    /**
+     * Allocate a buffer large enough for any payload.
+     */
+    @Setup
+    public void setUp() {
+        this.buffer = ByteBuffer.allocateDirect(8 << 20);
+    }
+
+    /**
+     * Bytes copied into an array, the array written to a stream.
+     * @param payload Payload.
+     * @param hole Blackhole.
+     * @throws IOException Never.
+     */
+    @Benchmark
+    public void copied(Payload payload, Blackhole hole) throws IOException {
+        new Discard(hole).write(
+            new ByteArray(new SmartJson(payload.json()).bytes()).value()
+        );
+    }
+
+    /**
+     * Written to a stream directly.
+     * @param payload Payload.
+     * @param hole Blackhole.
+     * @throws IOException Never.
+     */
+    @Benchmark
+    public void stream(Payload payload, Blackhole hole) throws IOException {
+        new SmartJson(payload.json()).writeTo(new Discard(hole));
+    }
+
+    /**
+     * Written to a direct buffer.
+     * @param payload Payload.
+     * @return The buffer.
+     * @throws IOException Never.
+     */
+    @Benchmark
+    public ByteBuffer buffer(Payload payload) throws IOException {
+        buffer.clear();
+        new SmartJson(payload.json()).writeTo(buffer);
+        return buffer;
+    }
+
+    /**
+     * Parsed payload copied into an array, the array written to a stream.
+     * @param parsed Parsed payload.
+     * @param hole Blackhole.
+     * @throws IOException Never.
+     */
+    @Benchmark
+    public void copiedParsed(Structure parsed, Blackhole hole)
+        throws IOException {
+        new Discard(hole).write(
+            new ByteArray(new Json.Of(parsed.value()).bytes()).value()
+        );
+    }
+
+    /**
+     * Parsed payload generated straight into a stream.
+     * @param parsed Parsed payload.
+     * @param hole Blackhole.
+     * @throws IOException Never.
+     */
+    @Benchmark
+    public void streamParsed(Structure parsed, Blackhole hole)
+        throws IOException {
+        new Json.Of(parsed.value()).writeTo(new Discard(hole));
+    }
+
+    /**
+     * Stream, which only shows what is written to a blackhole.
+     */
+    private static final class Discard extends OutputStream {
+        private final Blackhole hole;
+
+        Discard(Blackhole hole) {
+            super();
+            this.hole = hole;
+        }
+
+        @Override
+        public void write(int data) {
+            hole.consume(data);
+        }
+
+        @Override
+        public void write(byte[] data, int offset, int length) {
+            hole.consume(data);
+            hole.consume(offset + length);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.vzurauskas.nereides.javax;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.function.Supplier;
+
+/**
+ * {@link Json}, which is held in an array of bytes. It is written out
+ * straight from the array, without copying it.
+ */
+final class ArrayJson implements Json {
+    private final Supplier<byte[]> array;
+
+    ArrayJson(Supplier<byte[]> array) {
+        this.array = array;
+    }
+
+    @Override
+    public InputStream bytes() {
+        return new ByteArrayInputStream(array.get());
+    }
+
+    @Override
+    public void writeTo(OutputStream output) throws IOException {
+        output.write(array.get());
+    }
+
+    @Override
+    public void writeTo(WritableByteChannel channel) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(array.get());
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    @Override
+    public void writeTo(ByteBuffer buffer) {
+        buffer.put(array.get());
+    }
+}
@@ -0,0 +1,227 @@
+package com.vzurauskas.nereides.javax;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.io.StringReader;
+import java.util.Arrays;
+import javax.json.stream.JsonParser;
+
+/**
+ * Streaming parser of an array nested within a JSON. The parser follows the
+ * pointer through the bytes of the JSON, skipping whatever comes before the
+ * array without building any values out of it, so the elements can then be
+ * read one at a time.
+ * <p>
+ * If a name on the way is repeated, the last one wins, the same as in the
+ * parsed structure. As the parser cannot go back, the bytes are streamed
+ * through once more before, to find which of the fields with that name is
+ * the last one. This is not needed when the JSON is the array itself.
+ */
+final class ArrayParser {
+    private final Json json;
+    private final Pointer pointer;
+    private final Factories factories;
+    private JsonParser parser;
+
+    ArrayParser(Json json, Pointer pointer, Factories factories) {
+        this.json = json;
+        this.pointer = pointer;
+        this.factories = factories;
+    }
+
+    /**
+     * Open the parser and move it into the array, so that its next event is
+     * of the first element, or the end of the array. If there is no array
+     * where the pointer points to, a parser of an empty array is given
+     * instead. A missing JSON has no bytes, which the parser does not
+     * accept, so it is not parsed at all.
+     * @return The parser, which has to be closed.
+     */
+    // @checkstyle IllegalCatch (20 lines)
+    JsonParser open() {
+        final PushbackInputStream stream =
+            new PushbackInputStream(json.bytes());
+        try {
+            if (!new Unchecked<>(() -> empty(stream)).value()) {
+                parser = factories.parsers().createParser(stream);
+                if (!array()) {
+                    parser.close();
+                    parser = null;
+                }
+            }
+        } catch (RuntimeException ex) {
+            close(stream, ex);
+            throw ex;
+        }
+        if (parser == null) {
+            parser = factories.parsers().createParser(
+                new StringReader("[]")
+            );
+            parser.next();
+        }
+        return parser;
+    }
+
+    /**
+     * Close the parser, or the stream if there is no parser yet, after
+     * opening it has failed. A failure to close is added to that failure.
+     * @param stream Stream of the bytes of the JSON.
+     * @param failure Failure of opening.
+     */
+    // @checkstyle IllegalCatch (20 lines)
+    private void close(InputStream stream, RuntimeException failure) {
+        try {
+            if (parser == null) {
+                stream.close();
+            } else {
+                parser.close();
+            }
+        } catch (IOException | RuntimeException ex) {
+            failure.addSuppressed(ex);
+        }
+        parser = null;
+    }
+
+    private static boolean empty(PushbackInputStream stream)
+        throws IOException {
+        final int data = stream.read();
+        if (data >= 0) {
+            stream.unread(data);
+        }
+        return data < 0;
+    }
+
+    /**
+     * Follow the pointer to the array.
+     * @return Whether there is an array.
+     */
+    private boolean array() {
+        final int[] ordinals = ordinals();
+        JsonParser.Event current = parser.next();
+        for (
+            int step = 0;
+            current != null && step < pointer.size();
+            ++step
+        ) {
+            if (current == JsonParser.Event.START_OBJECT) {
+                current = field(ordinals[step]);
+            } else if (current == JsonParser.Event.START_ARRAY) {
+                current = element(pointer.index(step));
+            } else {
+                current = null;
+            }
+        }
+        return current == JsonParser.Event.START_ARRAY;
+    }
+
+    private JsonParser.Event field(int ordinal) {
+        int idx = 0;
+        for (
+            JsonParser.Event current = parser.next();
+            current == JsonParser.Event.KEY_NAME;
+            current = parser.next()
+        ) {
+            final JsonParser.Event value = parser.next();
+            if (idx == ordinal) {
+                return value;
+            }
+            skip(parser, value);
+            ++idx;
+        }
+        return null;
+    }
+
+    private JsonParser.Event element(int index) {
+        JsonParser.Event current = parser.next();
+        for (int idx = 0; idx < index; ++idx) {
+            if (current == JsonParser.Event.END_ARRAY) {
+                return null;
+            }
+            skip(parser, current);
+            current = parser.next();
+        }
+        if (index < 0 || current == JsonParser.Event.END_ARRAY) {
+            current = null;
+        }
+        return current;
+    }
+
+    /**
+     * Find which field to go into at each step of the pointer, where the
+     * step is in an object: the last one with the name of the step.
+     * @return Position of the field among the fields of its object at each
+     *  step, or -1 where there is no such field or the step is not in an
+     *  object.
+     */
+    private int[] ordinals() {
+        final int[] found = new int[pointer.size()];
+        Arrays.fill(found, -1);
+        if (found.length > 0) {
+            try (
+                JsonParser scan =
+                    factories.parsers().createParser(json.bytes())
+            ) {
+                find(scan, scan.next(), 0, found);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Find the fields to go into from a step of the pointer on, reading the
+     * value at which the parser is to its end.
+     * @param scan Parser at the start of a value.
+     * @param current Event at which the parser is.
+     * @param step Step of the pointer the value is at.
+     * @param found Positions of the fields found so far.
+     */
+    private void find(
+        JsonParser scan, JsonParser.Event current, int step, int[] found
+    ) {
+        if (step == found.length) {
+            skip(scan, current);
+        } else if (current == JsonParser.Event.START_OBJECT) {
+            int idx = 0;
+            for (
+                JsonParser.Event event = scan.next();
+                event == JsonParser.Event.KEY_NAME;
+                event = scan.next()
+            ) {
+                final boolean named = scan.getString()
+                    .equals(pointer.token(step));
+                final JsonParser.Event value = scan.next();
+                if (named) {
+                    Arrays.fill(found, step, found.length, -1);
+                    found[step] = idx;
+                    find(scan, value, step + 1, found);
+                } else {
+                    skip(scan, value);
+                }
+                ++idx;
+            }
+        } else if (current == JsonParser.Event.START_ARRAY) {
+            int idx = 0;
+            for (
+                JsonParser.Event event = scan.next();
+                event != JsonParser.Event.END_ARRAY;
+                event = scan.next()
+            ) {
+                if (idx == pointer.index(step)) {
+                    find(scan, event, step + 1, found);
+                } else {
+                    skip(scan, event);
+                }
+                ++idx;
+            }
+        }
+    }
+
+    private static void skip(JsonParser parser, JsonParser.Event current) {
+        if (current == JsonParser.Event.START_OBJECT) {
+            parser.skipObject();
+        } else if (current == JsonParser.Event.START_ARRAY) {
+            parser.skipArray();
+        }
+    }
+}
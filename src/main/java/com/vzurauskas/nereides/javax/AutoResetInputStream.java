@@ -2,11 +2,24 @@ package com.vzurauskas.nereides.javax;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 
+/**
+ * {@link InputStream}, which resets its origin when closed, so that the
+ * origin can be read again from the start. Bulk reads, skips and transfers
+ * are delegated to the origin, so when the origin is backed by an array,
+ * bytes are copied from it in blocks rather than one by one.
+ */
 public final class AutoResetInputStream extends InputStream {
 
+    private static final int BLOCK = 8192;
+
     private final InputStream origin;
 
+    /**
+     * Constructor.
+     * @param origin Stream to read from. It must support mark and reset.
+     */
     public AutoResetInputStream(InputStream origin) {
         super();
         origin.mark(1 << 24);
@@ -23,4 +36,37 @@ public final class AutoResetInputStream extends InputStream {
     public int read() throws IOException {
         return origin.read();
     }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        return origin.read(buffer, offset, length);
+    }
+
+    @Override
+    public long skip(long count) throws IOException {
+        return origin.skip(count);
+    }
+
+    @Override
+    public int available() throws IOException {
+        return origin.available();
+    }
+
+    /**
+     * Write all remaining bytes of this stream to the given stream.
+     * @param output Stream to write to.
+     * @return Number of bytes transferred.
+     * @throws IOException If reading or writing fails.
+     */
+    public long transferTo(OutputStream output) throws IOException {
+        byte[] block = new byte[BLOCK];
+        long total = 0;
+        int size = origin.read(block, 0, BLOCK);
+        while (size >= 0) {
+            output.write(block, 0, size);
+            total += size;
+            size = origin.read(block, 0, BLOCK);
+        }
+        return total;
+    }
 }
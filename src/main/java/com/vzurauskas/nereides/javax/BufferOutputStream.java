@@ -0,0 +1,28 @@
+package com.vzurauskas.nereides.javax;
+
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * {@link OutputStream}, which writes to a {@link ByteBuffer}. Writing more
+ * than the buffer has room for throws
+ * {@link java.nio.BufferOverflowException}.
+ */
+final class BufferOutputStream extends OutputStream {
+    private final ByteBuffer buffer;
+
+    BufferOutputStream(ByteBuffer buffer) {
+        super();
+        this.buffer = buffer;
+    }
+
+    @Override
+    public void write(int data) {
+        buffer.put((byte) data);
+    }
+
+    @Override
+    public void write(byte[] data, int offset, int length) {
+        buffer.put(data, offset, length);
+    }
+}
@@ -0,0 +1,58 @@
+package com.vzurauskas.nereides.javax;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * {@link InputStream}, which reads buffers one after another. The buffers
+ * themselves are not changed, so they can be read by several streams at
+ * once.
+ */
+final class BuffersInputStream extends InputStream {
+    private final ByteBuffer[] buffers;
+    private int current;
+
+    BuffersInputStream(ByteBuffer... buffers) {
+        super();
+        this.buffers = new ByteBuffer[buffers.length];
+        for (int idx = 0; idx < buffers.length; ++idx) {
+            this.buffers[idx] = buffers[idx].duplicate();
+        }
+    }
+
+    @Override
+    public int read() {
+        final int data;
+        if (next()) {
+            data = buffers[current].get() & 0xFF;
+        } else {
+            data = -1;
+        }
+        return data;
+    }
+
+    @Override
+    public int read(byte[] target, int offset, int length) {
+        final int size;
+        if (length == 0) {
+            size = 0;
+        } else if (next()) {
+            size = Math.min(length, buffers[current].remaining());
+            buffers[current].get(target, offset, size);
+        } else {
+            size = -1;
+        }
+        return size;
+    }
+
+    /**
+     * Move to the next buffer which has anything left to read.
+     * @return Whether there is anything left to read.
+     */
+    private boolean next() {
+        while (current < buffers.length && !buffers[current].hasRemaining()) {
+            ++current;
+        }
+        return current < buffers.length;
+    }
+}
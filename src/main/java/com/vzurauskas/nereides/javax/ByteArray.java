@@ -4,35 +4,67 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.UncheckedIOException;
+import java.util.Arrays;
 
 final class ByteArray {
 
     private final byte[] bytes;
 
     ByteArray(Json json) {
-        this(json.bytes());
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try {
+            json.writeTo(output);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        bytes = output.toByteArray();
+    }
+
+    /**
+     * Constructor, which reads only the first bytes of a JSON.
+     * @param json JSON to read.
+     * @param limit How many bytes to read at most.
+     */
+    ByteArray(Json json, int limit) {
+        try (InputStream stream = json.bytes()) {
+            final byte[] data = new byte[limit];
+            int size = 0;
+            int read = 0;
+            while (read >= 0 && size < limit) {
+                read = stream.read(data, size, limit - size);
+                size += Math.max(read, 0);
+            }
+            bytes = Arrays.copyOf(data, size);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 
+    /**
+     * Constructor, which reads a stream to its end and closes it, also if
+     * reading it fails.
+     * @param stream Stream to read.
+     */
     ByteArray(InputStream stream) {
         ByteArrayOutputStream output = new ByteArrayOutputStream();
-        try {
+        try (InputStream source = stream) {
             byte[] data = new byte[1024];
-            while (true) {
-                int size = stream.read(data, 0, data.length);
-                if (size == -1) {
-                    stream.close();
-                    break;
-                }
+            int size = source.read(data, 0, data.length);
+            while (size >= 0) {
                 output.write(data, 0, size);
+                size = source.read(data, 0, data.length);
             }
-            output.flush();
             bytes = output.toByteArray();
         } catch (IOException e) {
             throw new UncheckedIOException(e);
         }
     }
 
+    /**
+     * The bytes. The array is not copied.
+     * @return The bytes.
+     */
     public byte[] value() {
-        return bytes.clone();
+        return bytes;
     }
 }
@@ -1,19 +1,63 @@
 package com.vzurauskas.nereides.javax;
 
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 
+/**
+ * Value, which is computed when it is first needed and then remembered.
+ * It can be shared between threads: if several of them ask for the value at
+ * the same time, one computes it and the others wait for the result. Once
+ * the value is known, it is given out without locking. If the computation
+ * fails, the next request computes it again.
+ * @param <T> Type of the value.
+ */
 final class Cached<T> {
     private final Supplier<T> scalar;
-    private T value;
+    private final AtomicReference<FutureTask<T>> task;
+    private volatile T value;
 
     Cached(Supplier<T> scalar) {
         this.scalar = scalar;
+        this.task = new AtomicReference<>();
     }
 
     public T value() {
-        if (value == null) {
-            value = scalar.get();
+        T known = value;
+        if (known == null) {
+            known = computed();
+            value = known;
+        }
+        return known;
+    }
+
+    public boolean known() {
+        return value != null;
+    }
+
+    private T computed() {
+        FutureTask<T> fresh = new FutureTask<>(scalar::get);
+        FutureTask<T> current = task.updateAndGet(
+            existing -> existing == null ? fresh : existing
+        );
+        if (current == fresh) {
+            fresh.run();
+        }
+        try {
+            return current.get();
+        } catch (ExecutionException e) {
+            task.compareAndSet(current, null);
+            Throwable cause = e.getCause();
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw (RuntimeException) cause;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(
+                "Interrupted while waiting for the value to be computed", e
+            );
         }
-        return value;
     }
 }
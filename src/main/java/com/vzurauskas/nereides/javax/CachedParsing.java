@@ -0,0 +1,157 @@
+package com.vzurauskas.nereides.javax;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.json.JsonStructure;
+
+/**
+ * {@link Parsing}, which remembers the JSONs it has parsed, by their bytes,
+ * so a JSON with the same bytes as one parsed before is not parsed again.
+ * One instance is meant to be shared by all the {@link SmartJson}s which
+ * are likely to get the same documents, e.g.
+ * <pre>
+ * {@code
+ * Parsing parsing = new CachedParsing(10_000, 64L << 20);
+ * SmartJson json = new SmartJson(new Json.Of(bytes), parsing);
+ * }
+ * </pre>
+ * The cache is bounded both by the number of documents and by their total
+ * size in bytes, and the least recently used documents are dropped when
+ * either bound is exceeded. Documents larger than the size bound are not
+ * kept at all. Documents are found by a hash of their bytes, and then
+ * compared byte by byte, so different documents are never mixed up, even
+ * if their hashes are the same. JSONs which already hold their structure,
+ * e.g. {@link MutableJson}s, are not cached, as they need no parsing.
+ * <p>
+ * The cache is thread safe. It is locked only to look documents up and to
+ * add them, not while they are parsed, so if several threads parse the same
+ * new document at the same time, each of them parses it. The structures
+ * are shared by all the JSONs which have the same bytes, so they must not
+ * be changed, which the structures of JSON-P are not.
+ */
+public final class CachedParsing implements Parsing {
+    private final Parsing origin;
+    private final int entries;
+    private final long bytes;
+    private final Map<Integer, Entry> cache;
+    private final AtomicLong hits;
+    private final AtomicLong misses;
+    private final AtomicLong evictions;
+    private long size;
+
+    /**
+     * Constructor. Documents are parsed by {@link Parsing.Full}.
+     * @param entries How many documents to keep at most.
+     * @param bytes How many bytes the kept documents can have in total.
+     */
+    public CachedParsing(int entries, long bytes) {
+        this(new Parsing.Full(), entries, bytes);
+    }
+
+    /**
+     * Constructor.
+     * @param origin Parsing of documents, which are not in the cache.
+     * @param entries How many documents to keep at most.
+     * @param bytes How many bytes the kept documents can have in total.
+     */
+    public CachedParsing(Parsing origin, int entries, long bytes) {
+        this.origin = origin;
+        this.entries = entries;
+        this.bytes = bytes;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true);
+        this.hits = new AtomicLong();
+        this.misses = new AtomicLong();
+        this.evictions = new AtomicLong();
+    }
+
+    @Override
+    public JsonStructure structure(Json json) {
+        final Optional<JsonStructure> known = new Tree(json).known();
+        return known.orElseGet(() -> cached(new ByteArray(json).value()));
+    }
+
+    /**
+     * How many documents have been found in the cache.
+     * @return Number of hits.
+     */
+    public long hits() {
+        return hits.get();
+    }
+
+    /**
+     * How many documents have not been found in the cache, and have been
+     * parsed.
+     * @return Number of misses.
+     */
+    public long misses() {
+        return misses.get();
+    }
+
+    /**
+     * How many documents have been dropped from the cache to keep it within
+     * its bounds.
+     * @return Number of evictions.
+     */
+    public long evictions() {
+        return evictions.get();
+    }
+
+    private JsonStructure cached(byte[] content) {
+        final Integer hash = Arrays.hashCode(content);
+        final Entry entry;
+        synchronized (cache) {
+            entry = cache.get(hash);
+        }
+        final JsonStructure structure;
+        if (entry != null && Arrays.equals(entry.content, content)) {
+            hits.incrementAndGet();
+            structure = entry.structure;
+        } else {
+            misses.incrementAndGet();
+            structure = origin.structure(new Json.Of(content));
+            if (content.length <= bytes) {
+                keep(hash, new Entry(content, structure));
+            }
+        }
+        return structure;
+    }
+
+    /**
+     * Add a document to the cache, replacing a document with the same hash,
+     * and drop the least recently used ones while the cache is too large.
+     * @param hash Hash of the document.
+     * @param entry The document.
+     */
+    private void keep(Integer hash, Entry entry) {
+        synchronized (cache) {
+            final Entry replaced = cache.put(hash, entry);
+            if (replaced != null) {
+                size -= replaced.content.length;
+            }
+            size += entry.content.length;
+            final Iterator<Entry> eldest = cache.values().iterator();
+            while (cache.size() > entries || size > bytes) {
+                size -= eldest.next().content.length;
+                eldest.remove();
+                evictions.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Bytes of a document and their structure.
+     */
+    private static final class Entry {
+        private final byte[] content;
+        private final JsonStructure structure;
+
+        Entry(byte[] content, JsonStructure structure) {
+            this.content = content;
+            this.structure = structure;
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.vzurauskas.nereides.javax;
+
+import java.nio.charset.StandardCharsets;
+import javax.json.JsonStructure;
+
+/**
+ * Contents of a {@link SmartJson}: its bytes, its text in several forms
+ * and whether it is missing. Each of them is read or written at most once,
+ * and only when it is asked for.
+ */
+final class Contents {
+    private final Json origin;
+    private final Cached<JsonStructure> structure;
+    private final Factories factories;
+    private final Cached<byte[]> array;
+    private final Cached<String> compact;
+    private final Cached<String> pretty;
+    private final Cached<String> string;
+    private final Cached<Boolean> missing;
+
+    /**
+     * Constructor.
+     * @param origin The JSON.
+     * @param structure Its structure, which may have been parsed already.
+     * @param factories Factories to write the structure with.
+     */
+    Contents(
+        Json origin, Cached<JsonStructure> structure, Factories factories
+    ) {
+        this.origin = origin;
+        this.structure = structure;
+        this.factories = factories;
+        this.array = new Cached<>(() -> new ByteArray(origin).value());
+        this.compact = new Cached<>(this::written);
+        this.pretty = new Cached<>(
+            () -> new Text(structure.value(), factories.pretty()).value()
+        );
+        this.string = new Cached<>(
+            () -> new String(array.value(), StandardCharsets.UTF_8)
+        );
+        this.missing = new Cached<>(this::absent);
+    }
+
+    byte[] bytes() {
+        return array.value();
+    }
+
+    String compact() {
+        return compact.value();
+    }
+
+    String pretty() {
+        return pretty.value();
+    }
+
+    String string() {
+        return string.value();
+    }
+
+    boolean missing() {
+        return missing.value();
+    }
+
+    /**
+     * Write the structure out, unless the bytes are already compact, i.e.
+     * have no whitespace between their tokens and nothing after their
+     * value, in which case they are given as they are. The structure is
+     * parsed either way, so text is given only for what the parsing takes
+     * as valid: {@link Parsing.Lazy} reads only as far as it has to, and
+     * does not check the rest of the bytes, which are then given as they
+     * are too.
+     * @return Compact text.
+     */
+    private String written() {
+        final JsonStructure parsed = structure.value();
+        final byte[] bytes = array.value();
+        final String text;
+        if (compact(bytes)) {
+            text = new String(bytes, StandardCharsets.UTF_8);
+        } else {
+            text = new Text(parsed, factories.writers()).value();
+        }
+        return text;
+    }
+
+    /**
+     * Tell if the original JSON is missing, i.e. has no bytes. A missing
+     * JSON is known by its type, and JSONs which have been parsed, or hold
+     * their structure, are not missing. Other JSONs are asked for their
+     * first byte.
+     * @return Whether the original JSON is missing.
+     */
+    private boolean absent() {
+        final boolean absent;
+        if (origin instanceof MissingJson) {
+            absent = true;
+        } else if (array.known()) {
+            absent = array.value().length == 0;
+        } else if (
+            structure.known()
+                || origin instanceof ParsedJson
+                || origin instanceof MutableJson
+        ) {
+            absent = false;
+        } else if (origin instanceof SmartJson) {
+            absent = ((SmartJson) origin).isMissing();
+        } else {
+            absent = new ByteArray(origin, 1).value().length == 0;
+        }
+        return absent;
+    }
+
+    /**
+     * Tell if the bytes are compact JSON in UTF-8, i.e. there is nothing
+     * but printable ASCII outside of strings, and the value closes at the
+     * last byte. Whitespace, a byte order mark, the zero bytes of UTF-16
+     * and UTF-32, and anything after the value are not.
+     * @param bytes Bytes of a parsed JSON.
+     * @return Whether the bytes are compact.
+     */
+    private static boolean compact(byte[] bytes) {
+        boolean compact = true;
+        boolean quoted = false;
+        int depth = 0;
+        for (int idx = 0; compact && idx < bytes.length; ++idx) {
+            final byte data = bytes[idx];
+            if (data == '"') {
+                quoted = !quoted;
+            } else if (quoted) {
+                if (data == '\\') {
+                    ++idx;
+                }
+            } else if (data == '{' || data == '[') {
+                ++depth;
+            } else if (data == '}' || data == ']') {
+                --depth;
+                compact = depth > 0 || idx == bytes.length - 1;
+            } else {
+                compact = data > ' ';
+            }
+        }
+        return compact && depth == 0;
+    }
+}
@@ -0,0 +1,167 @@
+package com.vzurauskas.nereides.javax;
+
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import javax.json.JsonStructure;
+import javax.json.JsonValue;
+import javax.json.stream.JsonParser;
+
+/**
+ * Elements of an array within a JSON, each as its own {@link SmartJson}.
+ * Unless the JSON is already parsed, its bytes are read as the elements are
+ * iterated over, so only one element at a time is held in memory, e.g.
+ * <pre>
+ * {@code
+ * Elements records = new Elements(new FileJson(Paths.get("records.json")));
+ * try (Stream<SmartJson> stream = records.stream()) {
+ *     stream.parallel().forEach(this::process);
+ * }
+ * }
+ * </pre>
+ * Elements must be objects or arrays: an element which is not makes the
+ * stream throw {@link IllegalArgumentException} when it is reached, as it
+ * cannot be told apart from an absent value otherwise. If there is no
+ * array where the pointer points to, there are no elements. The stream
+ * can be split for parallel processing: elements are read one after another,
+ * but handed to other threads in batches. A stream, which is not consumed to
+ * the end, should be closed.
+ */
+public final class Elements implements Iterable<SmartJson> {
+    private final Json json;
+    private final Pointer pointer;
+    private final Factories factories;
+
+    /**
+     * Constructor.
+     * @param json JSON, which is an array.
+     */
+    public Elements(Json json) {
+        this(json, new Pointer(""));
+    }
+
+    /**
+     * Constructor.
+     * @param json JSON, which has an array nested within it.
+     * @param pointer Pointer to the array.
+     */
+    public Elements(Json json, Pointer pointer) {
+        this(json, pointer, Factories.SHARED);
+    }
+
+    /**
+     * Constructor.
+     * @param json JSON, which has an array nested within it.
+     * @param pointer Pointer to the array.
+     * @param factories Factories to parse the JSON and write the elements
+     *  with.
+     */
+    public Elements(Json json, Pointer pointer, Factories factories) {
+        this.json = json;
+        this.pointer = pointer;
+        this.factories = factories;
+    }
+
+    /**
+     * Elements as a stream.
+     * @return Elements.
+     * @throws IllegalArgumentException When an element, which is not an
+     *  object or an array, is reached.
+     */
+    public Stream<SmartJson> stream() {
+        final Optional<JsonStructure> known = new Tree(json, factories).known();
+        final Stream<JsonValue> values;
+        if (known.isPresent()) {
+            values = pointer.value(known.get())
+                .filter(
+                    value -> value.getValueType() == JsonValue.ValueType.ARRAY
+                )
+                .map(JsonValue::asJsonArray)
+                .orElse(JsonValue.EMPTY_JSON_ARRAY)
+                .stream();
+        } else {
+            final Scan scan = new Scan(
+                new ArrayParser(json, pointer, factories)
+            );
+            values = StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(
+                    scan, Spliterator.ORDERED | Spliterator.NONNULL
+                ),
+                false
+            ).onClose(scan::close);
+        }
+        return values.map(this::element);
+    }
+
+    @Override
+    public Iterator<SmartJson> iterator() {
+        return stream().iterator();
+    }
+
+    @Override
+    public Spliterator<SmartJson> spliterator() {
+        return stream().spliterator();
+    }
+
+    private SmartJson element(JsonValue value) {
+        if (!(value instanceof JsonStructure)) {
+            throw new IllegalArgumentException(
+                "Not all elements are objects or arrays: " + pointer
+            );
+        }
+        return new SmartJson(
+            new ParsedJson((JsonStructure) value, factories), factories
+        );
+    }
+
+    /**
+     * Values of array elements, parsed one at a time. The parser is closed
+     * once the last element has been read. As it is only used through a
+     * {@link Spliterator}, {@link #next()} is only called after
+     * {@link #hasNext()}.
+     */
+    private static final class Scan implements Iterator<JsonValue> {
+        private final ArrayParser array;
+        private JsonParser parser;
+        private JsonParser.Event event;
+
+        Scan(ArrayParser array) {
+            this.array = array;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (event == null) {
+                open();
+            }
+            return event != JsonParser.Event.END_ARRAY;
+        }
+
+        @Override
+        public JsonValue next() {
+            final JsonValue value = parser.getValue();
+            event = parser.next();
+            if (event == JsonParser.Event.END_ARRAY) {
+                close();
+            }
+            return value;
+        }
+
+        void close() {
+            if (parser != null) {
+                parser.close();
+            }
+        }
+
+        private void open() {
+            parser = array.open();
+            event = parser.next();
+            if (event == JsonParser.Event.END_ARRAY) {
+                close();
+            }
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.vzurauskas.nereides.javax;
 
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 
 /**
  * Empty {@link Json}. It is equivalent to {@code new Json.Of("{}")}.
@@ -9,6 +10,8 @@ import java.io.InputStream;
 public final class EmptyJson implements Json {
     @Override
     public InputStream bytes() {
-        return new ByteArrayInputStream("{}".getBytes());
+        return new ByteArrayInputStream(
+            "{}".getBytes(StandardCharsets.UTF_8)
+        );
     }
 }
@@ -0,0 +1,97 @@
+package com.vzurauskas.nereides.javax;
+
+import java.util.Collections;
+import java.util.Map;
+import javax.json.JsonBuilderFactory;
+import javax.json.JsonReaderFactory;
+import javax.json.JsonWriterFactory;
+import javax.json.spi.JsonProvider;
+import javax.json.stream.JsonGenerator;
+import javax.json.stream.JsonGeneratorFactory;
+import javax.json.stream.JsonParserFactory;
+
+/**
+ * Factories of a JSON-P implementation, which read, write, parse, generate
+ * and build JSONs. Static methods of {@link javax.json.Json} look the
+ * implementation up with a {@link java.util.ServiceLoader} on every call,
+ * so this library makes the factories once and reuses them instead. By
+ * default, one shared instance is used for all JSONs, but another one can
+ * be given to {@link SmartJson}, {@link MutableJson}, {@link Json.Of},
+ * {@link Parsing}, {@link Elements} and {@link Numbers} to use a particular
+ * implementation, e.g.
+ * <pre>
+ * {@code
+ * Factories factories = new Factories(new FasterJsonProvider());
+ * SmartJson json = new SmartJson(new Json.Of(bytes), factories);
+ * }
+ * </pre>
+ * The factories are thread safe, and so is this object.
+ */
+public final class Factories {
+    /**
+     * Factories of the implementation found by
+     * {@link JsonProvider#provider()}, which are used by default.
+     */
+    static final Factories SHARED = new Factories();
+
+    private final JsonProvider provider;
+    private final JsonReaderFactory readers;
+    private final JsonWriterFactory writers;
+    private final JsonWriterFactory pretty;
+    private final JsonParserFactory parsers;
+    private final JsonGeneratorFactory generators;
+    private final JsonBuilderFactory builders;
+
+    /**
+     * Constructor. The implementation is looked up once, by
+     * {@link JsonProvider#provider()}.
+     */
+    public Factories() {
+        this(JsonProvider.provider());
+    }
+
+    /**
+     * Constructor.
+     * @param provider JSON-P implementation.
+     */
+    public Factories(JsonProvider provider) {
+        final Map<String, ?> none = Collections.emptyMap();
+        this.provider = provider;
+        this.readers = provider.createReaderFactory(none);
+        this.writers = provider.createWriterFactory(none);
+        this.pretty = provider.createWriterFactory(
+            Collections.singletonMap(JsonGenerator.PRETTY_PRINTING, true)
+        );
+        this.parsers = provider.createParserFactory(none);
+        this.generators = provider.createGeneratorFactory(none);
+        this.builders = provider.createBuilderFactory(none);
+    }
+
+    JsonProvider provider() {
+        return provider;
+    }
+
+    JsonReaderFactory readers() {
+        return readers;
+    }
+
+    JsonWriterFactory writers() {
+        return writers;
+    }
+
+    JsonWriterFactory pretty() {
+        return pretty;
+    }
+
+    JsonParserFactory parsers() {
+        return parsers;
+    }
+
+    JsonGeneratorFactory generators() {
+        return generators;
+    }
+
+    JsonBuilderFactory builders() {
+        return builders;
+    }
+}
@@ -0,0 +1,52 @@
+package com.vzurauskas.nereides.javax;
+
+import javax.json.JsonBuilderFactory;
+import javax.json.JsonValue;
+import javax.json.stream.JsonGenerator;
+
+/**
+ * Value of a field of a {@link MutableJson}. It is either a
+ * {@link JsonValue} or kept in some other way, e.g. as primitives, until it
+ * is written out or built into a structure.
+ */
+interface Field {
+
+    /**
+     * Write the field within an object.
+     * @param name Name of the field.
+     * @param generator Generator, which is within the object.
+     */
+    void write(String name, JsonGenerator generator);
+
+    /**
+     * The value of the field as a structure or a scalar.
+     * @param builders Factory of builders to build the value with.
+     * @return The value.
+     */
+    JsonValue value(JsonBuilderFactory builders);
+
+    /**
+     * {@link Field}, which is a {@link JsonValue} as it is.
+     */
+    final class Of implements Field {
+        private final JsonValue value;
+
+        /**
+         * Constructor.
+         * @param value The value.
+         */
+        Of(JsonValue value) {
+            this.value = value;
+        }
+
+        @Override
+        public void write(String name, JsonGenerator generator) {
+            generator.write(name, value);
+        }
+
+        @Override
+        public JsonValue value(JsonBuilderFactory builders) {
+            return value;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.vzurauskas.nereides.javax;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * {@link Json} in a file, which is not read into the heap. Unlike
+ * {@link Json.Of}, which reads the whole file into an array, it maps the
+ * file into memory when it is first accessed, in chunks of up to a gigabyte,
+ * so that files of any size can be read, e.g.
+ * <pre>
+ * {@code
+ * SmartJson dump = new SmartJson(
+ *     new FileJson(Paths.get("dump.json")), new Parsing.Lazy()
+ * );
+ * }
+ * </pre>
+ * Each call to {@link #bytes()} reads the file from the start, and it can
+ * be read by several threads at once. When written to a channel, the file
+ * is transferred to it by the operating system. The file must not be
+ * changed while it is used.
+ */
+public final class FileJson implements Json {
+    private final Path path;
+    private final Cached<ByteBuffer[]> chunks;
+
+    /**
+     * Constructor.
+     * @param path Path to the file.
+     */
+    public FileJson(Path path) {
+        this(path, 1 << 30);
+    }
+
+    FileJson(Path path, int chunk) {
+        this.path = path;
+        this.chunks = new Cached<>(
+            () -> new Unchecked<>(
+                () -> {
+                    try (FileChannel file = FileChannel.open(path)) {
+                        long size = file.size();
+                        ByteBuffer[] mapped =
+                            new ByteBuffer[(int) ((size + chunk - 1) / chunk)];
+                        for (int idx = 0; idx < mapped.length; ++idx) {
+                            long start = (long) idx * chunk;
+                            mapped[idx] = file.map(
+                                FileChannel.MapMode.READ_ONLY,
+                                start, Math.min(chunk, size - start)
+                            );
+                        }
+                        return mapped;
+                    }
+                }
+            ).value()
+        );
+    }
+
+    @Override
+    public InputStream bytes() {
+        return new BuffersInputStream(chunks.value());
+    }
+
+    @Override
+    public void writeTo(WritableByteChannel channel) throws IOException {
+        try (
+            FileChannel file = FileChannel.open(
+                path, StandardOpenOption.READ
+            )
+        ) {
+            long size = file.size();
+            long position = 0;
+            while (position < size) {
+                position += file.transferTo(
+                    position, size - position, channel
+                );
+            }
+        }
+    }
+
+    @Override
+    public void writeTo(ByteBuffer buffer) {
+        for (ByteBuffer chunk : chunks.value()) {
+            buffer.put(chunk.duplicate());
+        }
+    }
+
+    @Override
+    public String toString() {
+        return new String(
+            new ByteArray(this).value(), StandardCharsets.UTF_8
+        );
+    }
+}
@@ -0,0 +1,136 @@
+package com.vzurauskas.nereides.javax;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import javax.json.JsonArrayBuilder;
+import javax.json.JsonException;
+import javax.json.JsonObjectBuilder;
+import javax.json.JsonStructure;
+import javax.json.JsonValue;
+import javax.json.stream.JsonParser;
+
+/**
+ * {@link Parsing}, which reads the whole JSON, like {@link Parsing.Full},
+ * but makes all equal field names the same {@link String} object. Documents
+ * usually have a small set of field names, which repeat in every object, so
+ * when many parsed documents are kept in memory, they share their names
+ * instead of each having copies of them. Short string values, e.g. of
+ * enumerations, can be shared as well, e.g.
+ * <pre>
+ * {@code
+ * Parsing parsing = new InternedParsing(10_000, 8);
+ * SmartJson json = new SmartJson(new Json.Of(bytes), parsing);
+ * }
+ * </pre>
+ * One instance is meant to be shared by all the JSONs, which have the same
+ * names. It keeps a pool of the strings it has seen, which is thread safe
+ * and bounded: once it is full, strings which are not in it are kept as
+ * they are. If the JSON already holds its structure, e.g. it is a
+ * {@link MutableJson}, that structure is taken instead.
+ */
+public final class InternedParsing implements Parsing {
+    private final ConcurrentMap<String, String> pool;
+    private final int strings;
+    private final int length;
+    private final Factories factories;
+
+    /**
+     * Constructor. Up to ten thousand field names are shared, and no
+     * string values.
+     */
+    public InternedParsing() {
+        this(10_000, 0);
+    }
+
+    /**
+     * Constructor.
+     * @param strings How many different strings to share at most.
+     * @param length String values of this length or shorter are shared as
+     *  well as field names. Zero means that no values are.
+     */
+    public InternedParsing(int strings, int length) {
+        this(strings, length, Factories.SHARED);
+    }
+
+    /**
+     * Constructor.
+     * @param strings How many different strings to share at most.
+     * @param length String values of this length or shorter are shared as
+     *  well as field names. Zero means that no values are.
+     * @param factories Factories to parse with.
+     */
+    public InternedParsing(int strings, int length, Factories factories) {
+        this.pool = new ConcurrentHashMap<>();
+        this.strings = strings;
+        this.length = length;
+        this.factories = factories;
+    }
+
+    @Override
+    public JsonStructure structure(Json json) {
+        return new Tree(json, factories).known().orElseGet(() -> parsed(json));
+    }
+
+    private JsonStructure parsed(Json json) {
+        try (
+            JsonParser parser =
+                factories.parsers().createParser(json.bytes())
+        ) {
+            final JsonValue value = value(parser, parser.next());
+            if (!(value instanceof JsonStructure)) {
+                throw new JsonException(
+                    "JSON must be an object or an array: " + value
+                );
+            }
+            return (JsonStructure) value;
+        }
+    }
+
+    private JsonValue value(JsonParser parser, JsonParser.Event event) {
+        final JsonValue value;
+        if (event == JsonParser.Event.START_OBJECT) {
+            final JsonObjectBuilder object = factories.builders()
+                .createObjectBuilder();
+            for (
+                JsonParser.Event current = parser.next();
+                current == JsonParser.Event.KEY_NAME;
+                current = parser.next()
+            ) {
+                final String name = interned(parser.getString());
+                object.add(name, value(parser, parser.next()));
+            }
+            value = object.build();
+        } else if (event == JsonParser.Event.START_ARRAY) {
+            final JsonArrayBuilder array = factories.builders()
+                .createArrayBuilder();
+            for (
+                JsonParser.Event current = parser.next();
+                current != JsonParser.Event.END_ARRAY;
+                current = parser.next()
+            ) {
+                array.add(value(parser, current));
+            }
+            value = array.build();
+        } else if (event == JsonParser.Event.VALUE_STRING) {
+            String string = parser.getString();
+            if (string.length() <= length) {
+                string = interned(string);
+            }
+            value = factories.provider().createValue(string);
+        } else {
+            value = parser.getValue();
+        }
+        return value;
+    }
+
+    private String interned(String string) {
+        String known = pool.get(string);
+        if (known == null && pool.size() < strings) {
+            known = pool.computeIfAbsent(string, key -> key);
+        }
+        if (known == null) {
+            known = string;
+        }
+        return known;
+    }
+}
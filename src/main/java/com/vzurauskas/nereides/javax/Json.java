@@ -1,15 +1,17 @@
 package com.vzurauskas.nereides.javax;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.UncheckedIOException;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.function.Supplier;
 import javax.json.JsonStructure;
-import javax.json.JsonWriter;
 
 /**
  * JSON document. This is the type to be implemented by all objects which
@@ -26,6 +28,43 @@ public interface Json {
      */
     InputStream bytes();
 
+    /**
+     * Write this {@code Json} to a stream. By default, the bytes are copied
+     * from {@link #bytes()} in blocks, but implementations which hold their
+     * bytes, or can generate them, write them straight to the stream.
+     * @param output Stream to write to. It is not closed.
+     * @throws IOException If writing fails.
+     */
+    default void writeTo(OutputStream output) throws IOException {
+        try (InputStream input = bytes()) {
+            byte[] block = new byte[8192];
+            int size = input.read(block, 0, block.length);
+            while (size >= 0) {
+                output.write(block, 0, size);
+                size = input.read(block, 0, block.length);
+            }
+        }
+    }
+
+    /**
+     * Write this {@code Json} to a channel.
+     * @param channel Channel to write to. It is not closed.
+     * @throws IOException If writing fails.
+     */
+    default void writeTo(WritableByteChannel channel) throws IOException {
+        writeTo(Channels.newOutputStream(channel));
+    }
+
+    /**
+     * Write this {@code Json} to a buffer, starting at its position.
+     * @param buffer Buffer to write to.
+     * @throws IOException If writing fails.
+     * @throws java.nio.BufferOverflowException If the buffer is too small.
+     */
+    default void writeTo(ByteBuffer buffer) throws IOException {
+        writeTo(new BufferOutputStream(buffer));
+    }
+
     /**
      * {@link Json}, constructed from JSON represented by other data types
      * such as byte array, {@code String}, {@code InputStream} and so forth.
@@ -46,66 +85,86 @@ public interface Json {
          * 'javax.json' package.
          */
         public Of(JsonStructure json) {
-            this(() -> json);
+            this(json, Factories.SHARED);
         }
 
         /**
          * Constructor.
          * @param json JSON represented by {@link JsonStructure} from
          * 'javax.json' package.
+         * @param factories Factories to write the JSON with.
          */
-        public Of(Supplier<JsonStructure> json) {
-            this(
-                flattened(
-                    () -> {
-                        try (
-                            ByteArrayOutputStream stream
-                                = new ByteArrayOutputStream();
-                            JsonWriter writer = javax.json.Json.createWriter(
-                                stream
-                            )
-                        ) {
-                            writer.write(json.get());
-                            return stream.toByteArray();
-                        } catch (IOException e) {
-                            throw new UncheckedIOException(e);
-                        }
-                    }
-                )
-            );
+        public Of(JsonStructure json, Factories factories) {
+            this.origin = new ParsedJson(json, factories);
         }
 
-        private static <T> T flattened(Supplier<T> scalar) {
-            return scalar.get();
+        /**
+         * Constructor.
+         * @param json JSON represented by {@link JsonStructure} from
+         * 'javax.json' package.
+         */
+        public Of(Supplier<JsonStructure> json) {
+            this.origin = new ParsedJson(json.get());
         }
 
         /**
-         * Constructor.
+         * Constructor. The string is parsed as characters, and encoded in
+         * UTF-8 only if its bytes are asked for.
          * @param string JSON represented by a {@link String}.
          */
         public Of(String string) {
-            this(string.getBytes());
+            this((CharSequence) string);
         }
 
         /**
-         * Constructor.
+         * Constructor. Like a {@link String}, the characters are parsed as
+         * they are, and encoded in UTF-8 only if its bytes are asked for.
+         * They are not copied, so they must not be changed afterwards.
+         * @param chars JSON represented by characters, e.g. in a
+         * {@link StringBuilder}.
+         */
+        public Of(CharSequence chars) {
+            this.origin = new TextJson(() -> chars);
+        }
+
+        /**
+         * Constructor. The reader is read fully into memory the first time
+         * this {@code Json} is accessed, so that it can be read again. The
+         * characters are parsed as they are, like those of a {@link String}.
+         * The reader is closed once it is read, or once reading it fails, in
+         * which case every later access fails too.
+         * @param reader JSON represented by the characters in a
+         * {@link Reader}.
+         */
+        public Of(Reader reader) {
+            this.origin = new TextJson(reader);
+        }
+
+        /**
+         * Constructor. The array is not copied, so it must not be modified
+         * afterwards. Each call to {@link #bytes()} gives a new stream over
+         * the array, so this {@code Json} can be read any number of times,
+         * also concurrently.
          * @param bytes JSON represented by an array of bytes.
          */
         public Of(byte[] bytes) {
-            this(
-                new AutoResetInputStream(
-                    new ByteArrayInputStream(bytes)
-                )
-            );
+            this.origin = new ArrayJson(() -> bytes);
         }
 
         /**
-         * Constructor.
+         * Constructor. The stream is read fully into memory the first time
+         * this {@code Json} is accessed, so that it can be read again. The
+         * stream is closed once it is read, or once reading it fails, in
+         * which case every later access fails too.
          * @param stream JSON represented by the bytes in an
          * {@link InputStream}.
          */
         public Of(InputStream stream) {
-            this.origin = () -> stream;
+            this(
+                new Cached<>(
+                    new ReadOnce<>(() -> new ByteArray(stream).value())
+                )
+            );
         }
 
         /**
@@ -115,21 +174,14 @@ public interface Json {
         public Of(Path path) {
             this(
                 new Cached<>(
-                    () -> new Unchecked<>(
-                        () -> new AutoResetInputStream(
-                            new ByteArrayInputStream(Files.readAllBytes(path))
-                        )
-                    ).value()
+                    () -> new Unchecked<>(() -> Files.readAllBytes(path))
+                        .value()
                 )
             );
         }
 
-        private Of(Cached<InputStream> cached) {
-            this(cached::value);
-        }
-
-        private Of(Json json) {
-            this.origin = json;
+        private Of(Cached<byte[]> cached) {
+            this.origin = new ArrayJson(cached::value);
         }
 
         @Override
@@ -137,9 +189,36 @@ public interface Json {
             return origin.bytes();
         }
 
+        @Override
+        public void writeTo(OutputStream output) throws IOException {
+            origin.writeTo(output);
+        }
+
+        @Override
+        public void writeTo(WritableByteChannel channel) throws IOException {
+            origin.writeTo(channel);
+        }
+
+        @Override
+        public void writeTo(ByteBuffer buffer) throws IOException {
+            origin.writeTo(buffer);
+        }
+
         @Override
         public String toString() {
-            return new String(new ByteArray(this).value());
+            final String string;
+            if (origin instanceof TextJson) {
+                string = origin.toString();
+            } else {
+                string = new String(
+                    new ByteArray(this).value(), StandardCharsets.UTF_8
+                );
+            }
+            return string;
+        }
+
+        Json origin() {
+            return origin;
         }
     }
 }
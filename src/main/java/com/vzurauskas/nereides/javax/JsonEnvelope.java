@@ -1,6 +1,11 @@
 package com.vzurauskas.nereides.javax;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
 
 public abstract class JsonEnvelope implements Json {
     private final Json origin;
@@ -11,11 +16,33 @@ public abstract class JsonEnvelope implements Json {
 
     @Override
     public final String toString() {
-        return new String(new ByteArray(origin).value());
+        return new String(
+            new ByteArray(origin).value(), StandardCharsets.UTF_8
+        );
     }
 
     @Override
     public final InputStream bytes() {
         return origin.bytes();
     }
+
+    @Override
+    public final void writeTo(OutputStream output) throws IOException {
+        origin.writeTo(output);
+    }
+
+    @Override
+    public final void writeTo(WritableByteChannel channel)
+        throws IOException {
+        origin.writeTo(channel);
+    }
+
+    @Override
+    public final void writeTo(ByteBuffer buffer) throws IOException {
+        origin.writeTo(buffer);
+    }
+
+    final Json origin() {
+        return origin;
+    }
 }
@@ -0,0 +1,210 @@
+package com.vzurauskas.nereides.javax;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * JSON Lines (also known as newline-delimited JSON), i.e. JSONs, each on
+ * its own line, e.g.
+ * <pre>
+ * {@code
+ * try (Stream<Json> lines = new JsonLines(Paths.get("log.jsonl")).stream()) {
+ *     lines.map(SmartJson::new).forEach(this::process);
+ * }
+ * }
+ * </pre>
+ * The bytes are read in large blocks, and each line is a {@link Json} over
+ * its part of a block, so lines are not copied, except those which cross
+ * the end of a block. Blocks are not reused, so the lines stay valid after
+ * the stream moves on. Empty lines are skipped, and a carriage return at
+ * the end of a line is dropped. The lines are UTF-8, as JSON Lines are.
+ */
+public final class JsonLines implements Iterable<Json> {
+    private final Checked<ReadableByteChannel> source;
+    private final int block;
+
+    /**
+     * Constructor. The file is opened each time the lines are streamed.
+     * @param path Path to the file.
+     */
+    public JsonLines(Path path) {
+        this(() -> FileChannel.open(path), 1 << 16);
+    }
+
+    /**
+     * Constructor. The lines can be streamed only once.
+     * @param stream Stream of lines.
+     */
+    public JsonLines(InputStream stream) {
+        this(() -> Channels.newChannel(stream), 1 << 16);
+    }
+
+    /**
+     * Constructor. The lines can be streamed only once.
+     * @param channel Channel of lines.
+     */
+    public JsonLines(ReadableByteChannel channel) {
+        this(() -> channel, 1 << 16);
+    }
+
+    JsonLines(Checked<ReadableByteChannel> source, int block) {
+        this.source = source;
+        this.block = block;
+    }
+
+    /**
+     * Lines as a stream. The source is closed once the last line has been
+     * read, or when the stream is closed.
+     * @return Lines.
+     */
+    public Stream<Json> stream() {
+        final Split split = new Split(
+            new Unchecked<>(source).value(), block
+        );
+        return StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(
+                split, Spliterator.ORDERED | Spliterator.NONNULL
+            ),
+            false
+        ).onClose(split::close);
+    }
+
+    @Override
+    public Iterator<Json> iterator() {
+        return stream().iterator();
+    }
+
+    @Override
+    public Spliterator<Json> spliterator() {
+        return stream().spliterator();
+    }
+
+    /**
+     * Lines of a channel. As it is only used through a {@link Spliterator},
+     * {@link #next()} is only called after {@link #hasNext()}.
+     */
+    private static final class Split implements Iterator<Json> {
+        private final ReadableByteChannel channel;
+        private final int block;
+        private byte[] bytes;
+        private int start;
+        private int end;
+        private int scanned;
+        private int line;
+        private int length;
+        private boolean eof;
+
+        Split(ReadableByteChannel channel, int block) {
+            this.channel = channel;
+            this.block = block;
+            this.bytes = new byte[0];
+            this.length = -1;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (length < 0 && (!eof || start < end)) {
+                final int found = find();
+                if (found >= 0) {
+                    int size = found - start;
+                    if (size > 0 && bytes[found - 1] == '\r') {
+                        --size;
+                    }
+                    if (size > 0) {
+                        length = size;
+                        line = found;
+                    } else {
+                        skip(found);
+                    }
+                }
+            }
+            return length >= 0;
+        }
+
+        @Override
+        public Json next() {
+            final Json json = new SliceJson(bytes, start, length);
+            skip(line);
+            length = -1;
+            return json;
+        }
+
+        void close() {
+            new Unchecked<>(
+                () -> {
+                    channel.close();
+                    return true;
+                }
+            ).value();
+        }
+
+        /**
+         * Move past a line.
+         * @param found Position of the new line character at its end.
+         */
+        private void skip(int found) {
+            start = Math.min(found + 1, end);
+            scanned = start;
+        }
+
+        /**
+         * Find the end of the next line, reading more bytes if needed.
+         * @return Position of the new line character, or of the end of
+         *  bytes if the last line does not have one, or -1 if more bytes
+         *  have been read and the search must go on.
+         */
+        private int find() {
+            for (int idx = scanned; idx < end; ++idx) {
+                if (bytes[idx] == '\n') {
+                    return idx;
+                }
+            }
+            scanned = end;
+            final int found;
+            if (eof) {
+                found = end;
+            } else {
+                new Unchecked<>(this::read).value();
+                found = -1;
+            }
+            return found;
+        }
+
+        /**
+         * Read more bytes into the current block. If it is full, a new one
+         * is made, and the bytes of the unfinished line are copied to its
+         * start, so that the lines which have been given out stay valid.
+         * @return Whether anything has been read.
+         * @throws IOException If the channel cannot be read.
+         */
+        private boolean read() throws IOException {
+            if (end == bytes.length) {
+                final int rest = end - start;
+                final byte[] next = new byte[Math.max(block, rest * 2)];
+                System.arraycopy(bytes, start, next, 0, rest);
+                bytes = next;
+                start = 0;
+                end = rest;
+                scanned = rest;
+            }
+            final ByteBuffer buffer =
+                ByteBuffer.wrap(bytes, end, bytes.length - end);
+            eof = channel.read(buffer) < 0;
+            end = buffer.position();
+            if (eof) {
+                close();
+            }
+            return !eof;
+        }
+    }
+}
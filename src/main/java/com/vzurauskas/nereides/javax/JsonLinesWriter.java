@@ -0,0 +1,181 @@
+package com.vzurauskas.nereides.javax;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Writer of JSON Lines, i.e. JSONs, each followed by a new line, e.g.
+ * <pre>
+ * {@code
+ * try (JsonLinesWriter writer = new JsonLinesWriter(output)) {
+ *     writer.write(new MutableJson().with("event", "start"));
+ *     writer.write(new JsonLines(input));
+ * }
+ * }
+ * </pre>
+ * The JSONs are written to a buffer, which goes to the output in large
+ * blocks, so many small JSONs do not make as many small writes. A JSON
+ * which is not on a single line, e.g. a pretty one, is put on one: line
+ * breaks cannot be within its strings, where they are escaped, so they are
+ * left out, and the JSON means the same.
+ */
+public final class JsonLinesWriter implements Closeable, Flushable {
+    private final OutputStream output;
+    private final OutputStream line;
+
+    /**
+     * Constructor.
+     * @param output Output to write the lines to.
+     */
+    public JsonLinesWriter(OutputStream output) {
+        this(output, 1 << 16);
+    }
+
+    /**
+     * Constructor.
+     * @param channel Channel to write the lines to.
+     */
+    public JsonLinesWriter(WritableByteChannel channel) {
+        this(Channels.newOutputStream(channel));
+    }
+
+    JsonLinesWriter(OutputStream output, int buffer) {
+        this.output = new Buffered(output, buffer);
+        this.line = new SingleLine(this.output);
+    }
+
+    /**
+     * Write a JSON as a line.
+     * @param json JSON to write.
+     * @return This writer.
+     * @throws IOException If the output cannot be written to.
+     */
+    public JsonLinesWriter write(Json json) throws IOException {
+        json.writeTo(line);
+        output.write('\n');
+        return this;
+    }
+
+    /**
+     * Write JSONs as lines, e.g. the lines of {@link JsonLines}.
+     * @param jsons JSONs to write.
+     * @return This writer.
+     * @throws IOException If the output cannot be written to.
+     */
+    public JsonLinesWriter write(Iterable<? extends Json> jsons)
+        throws IOException {
+        for (Json json : jsons) {
+            write(json);
+        }
+        return this;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        output.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        output.close();
+    }
+
+    /**
+     * Buffered stream. Unlike {@link java.io.BufferedOutputStream}, it is
+     * not synchronized, as a writer is used by one thread at a time, and
+     * taking a lock twice for each line costs more than writing it.
+     */
+    private static final class Buffered extends OutputStream {
+        private final OutputStream output;
+        private final byte[] buffer;
+        private int count;
+
+        Buffered(OutputStream output, int size) {
+            super();
+            this.output = output;
+            this.buffer = new byte[size];
+        }
+
+        @Override
+        public void write(int data) throws IOException {
+            if (count == buffer.length) {
+                drain();
+            }
+            buffer[count] = (byte) data;
+            ++count;
+        }
+
+        @Override
+        public void write(byte[] data, int offset, int length)
+            throws IOException {
+            if (length > buffer.length - count) {
+                drain();
+            }
+            if (length > buffer.length) {
+                output.write(data, offset, length);
+            } else {
+                System.arraycopy(data, offset, buffer, count, length);
+                count += length;
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            drain();
+            output.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            try (OutputStream closed = output) {
+                drain();
+            }
+        }
+
+        private void drain() throws IOException {
+            output.write(buffer, 0, count);
+            count = 0;
+        }
+    }
+
+    /**
+     * Stream, which leaves out line breaks. They are looked for first, so
+     * the bytes of a JSON on a single line are passed on as they are.
+     */
+    private static final class SingleLine extends OutputStream {
+        private final OutputStream output;
+
+        SingleLine(OutputStream output) {
+            super();
+            this.output = output;
+        }
+
+        @Override
+        public void write(int data) throws IOException {
+            if (!broken((byte) data)) {
+                output.write(data);
+            }
+        }
+
+        @Override
+        public void write(byte[] data, int offset, int length)
+            throws IOException {
+            int start = offset;
+            for (int idx = offset; idx < offset + length; ++idx) {
+                if (broken(data[idx])) {
+                    output.write(data, start, idx - start);
+                    start = idx + 1;
+                }
+            }
+            output.write(data, start, offset + length - start);
+        }
+
+        private static boolean broken(byte data) {
+            return data == '\n' || data == '\r';
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.vzurauskas.nereides.javax;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.json.JsonObject;
+import javax.json.JsonStructure;
+import javax.json.JsonValue;
+import javax.json.stream.JsonParser;
+
+/**
+ * {@link JsonObject}, which looks up its fields by streaming through the
+ * bytes of a {@link Json} and is read fully only when all of it is needed.
+ * See {@link Parsing.Lazy}.
+ */
+final class LazyObject extends ObjectView {
+
+    private final Json origin;
+    private final List<String> path;
+    private final Cached<JsonStructure> root;
+    private final Cached<JsonObject> whole;
+    private final Map<String, Optional<JsonValue>> found;
+    private final Factories factories;
+
+    LazyObject(Json origin, Parsing full) {
+        this(origin, full, Factories.SHARED);
+    }
+
+    LazyObject(Json origin, Parsing full, Factories factories) {
+        this(
+            origin,
+            Collections.emptyList(),
+            new Cached<>(() -> full.structure(origin)),
+            factories
+        );
+    }
+
+    private LazyObject(
+        Json origin, List<String> path, Cached<JsonStructure> root,
+        Factories factories
+    ) {
+        this.origin = origin;
+        this.factories = factories;
+        this.path = path;
+        this.root = root;
+        this.whole = new Cached<>(
+            () -> {
+                JsonValue value = root.value();
+                for (String name : path) {
+                    value = value.asJsonObject().get(name);
+                }
+                return value.asJsonObject();
+            }
+        );
+        this.found = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public JsonValue get(Object key) {
+        final JsonValue value;
+        if (root.known()) {
+            value = whole.value().get(key);
+        } else if (key instanceof String) {
+            value = found.computeIfAbsent((String) key, this::scanned)
+                .orElse(null);
+        } else {
+            value = null;
+        }
+        return value;
+    }
+
+    @Override
+    public Set<Entry<String, JsonValue>> entrySet() {
+        return whole.value().entrySet();
+    }
+
+    @Override
+    public String toString() {
+        return whole.value().toString();
+    }
+
+    private Optional<JsonValue> scanned(String name) {
+        try (
+            JsonParser parser =
+                factories.parsers().createParser(origin.bytes())
+        ) {
+            parser.next();
+            return Optional.ofNullable(value(parser, 0, name));
+        }
+    }
+
+    /**
+     * Find the value of the named field of the object at the path, reading
+     * the object the parser is in to its end. If a name is repeated, the
+     * last one wins, the same as when the JSON is parsed fully, so every
+     * object on the path with that name is gone into, and other fields are
+     * skipped.
+     * @param parser Parser inside an object.
+     * @param depth How many steps of the path the object is at.
+     * @param name Name of the field.
+     * @return Value of the field, or null if there is no such field.
+     */
+    private JsonValue value(JsonParser parser, int depth, String name) {
+        final boolean last = depth == path.size();
+        final String wanted;
+        if (last) {
+            wanted = name;
+        } else {
+            wanted = path.get(depth);
+        }
+        JsonValue value = null;
+        for (
+            JsonParser.Event event = parser.next();
+            event == JsonParser.Event.KEY_NAME;
+            event = parser.next()
+        ) {
+            final boolean matches = wanted.equals(parser.getString());
+            event = parser.next();
+            if (!matches) {
+                skip(parser, event);
+            } else if (!last && event == JsonParser.Event.START_OBJECT) {
+                value = value(parser, depth + 1, name);
+            } else if (!last) {
+                skip(parser, event);
+                value = null;
+            } else if (event == JsonParser.Event.START_OBJECT) {
+                parser.skipObject();
+                final List<String> nested = new ArrayList<>(path);
+                nested.add(name);
+                value = new LazyObject(origin, nested, root, factories);
+            } else {
+                value = parser.getValue();
+            }
+        }
+        return value;
+    }
+
+    private static void skip(JsonParser parser, JsonParser.Event event) {
+        if (event == JsonParser.Event.START_OBJECT) {
+            parser.skipObject();
+        } else if (event == JsonParser.Event.START_ARRAY) {
+            parser.skipArray();
+        }
+    }
+}
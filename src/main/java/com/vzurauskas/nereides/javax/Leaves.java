@@ -0,0 +1,237 @@
+package com.vzurauskas.nereides.javax;
+
+import java.math.BigDecimal;
+import javax.json.JsonNumber;
+import javax.json.JsonString;
+import javax.json.JsonStructure;
+import javax.json.JsonValue;
+
+/**
+ * Values nested within a {@link SmartJson}, found all at once, in a single
+ * pass over it. If the JSON is already parsed, the pass walks its structure,
+ * otherwise it scans through its bytes without parsing the parts which are
+ * not needed. Values are then taken by their position in the list of
+ * pointers, without any further lookups, e.g.
+ * <pre>
+ * {@code
+ * Pointers pointers = new Pointers(
+ *     new Pointer("/name"), new Pointer("/ocean/rock1/depth")
+ * );
+ * Leaves leaves = new Leaves(json, pointers);
+ * String name = leaves.leaf(0);
+ * int depth = leaves.leafAsInt(1);
+ * }
+ * </pre>
+ * Numbers are taken straight from the parsed values, without boxing them
+ * or wrapping them in {@link java.util.Optional}s, and the methods which
+ * are given a fallback return it, instead of throwing, when there is no
+ * value of the type.
+ */
+public final class Leaves {
+    private final SmartJson json;
+    private final Pointers pointers;
+    private final Cached<JsonValue[]> values;
+
+    /**
+     * Constructor.
+     * @param json JSON to take the values from.
+     * @param pointers Paths to the values.
+     */
+    public Leaves(SmartJson json, Pointer... pointers) {
+        this(json, new Pointers(pointers));
+    }
+
+    /**
+     * Constructor.
+     * @param json JSON to take the values from.
+     * @param pointers Paths to the values.
+     */
+    public Leaves(SmartJson json, Pointers pointers) {
+        this.json = json;
+        this.pointers = pointers;
+        this.values = new Cached<>(() -> json.values(pointers));
+    }
+
+    /**
+     * Tell if there is a value at the given position.
+     * @param idx Position of the pointer, starting from 0.
+     * @return true if the pointer leads to a value; otherwise false.
+     */
+    public boolean has(int idx) {
+        return values.value()[idx] != null;
+    }
+
+    /**
+     * Get a {@code String} type value.
+     * @param idx Position of the pointer, starting from 0.
+     * @return String value.
+     * @throws IllegalArgumentException if there is no such value.
+     */
+    public String leaf(int idx) {
+        return ((JsonString) value(idx, JsonValue.ValueType.STRING))
+            .getString();
+    }
+
+    /**
+     * Get an {@code int} type value.
+     * @param idx Position of the pointer, starting from 0.
+     * @return Int value.
+     * @throws IllegalArgumentException if there is no such value.
+     */
+    public int leafAsInt(int idx) {
+        return ((JsonNumber) value(idx, JsonValue.ValueType.NUMBER))
+            .intValue();
+    }
+
+    /**
+     * Get an {@code int} type value.
+     * @param idx Position of the pointer, starting from 0.
+     * @param fallback Value to return if there is no number.
+     * @return Int value, or the fallback.
+     */
+    public int leafAsInt(int idx, int fallback) {
+        final JsonNumber number = number(idx);
+        final int value;
+        if (number == null) {
+            value = fallback;
+        } else {
+            value = number.intValue();
+        }
+        return value;
+    }
+
+    /**
+     * Get a {@code long} type value.
+     * @param idx Position of the pointer, starting from 0.
+     * @return Long value.
+     * @throws IllegalArgumentException if there is no such value.
+     */
+    public long leafAsLong(int idx) {
+        return ((JsonNumber) value(idx, JsonValue.ValueType.NUMBER))
+            .longValue();
+    }
+
+    /**
+     * Get a {@code long} type value.
+     * @param idx Position of the pointer, starting from 0.
+     * @param fallback Value to return if there is no number.
+     * @return Long value, or the fallback.
+     */
+    public long leafAsLong(int idx, long fallback) {
+        final JsonNumber number = number(idx);
+        final long value;
+        if (number == null) {
+            value = fallback;
+        } else {
+            value = number.longValue();
+        }
+        return value;
+    }
+
+    /**
+     * Get a {@link BigDecimal} type value, with all the digits it has in
+     * the JSON.
+     * @param idx Position of the pointer, starting from 0.
+     * @return BigDecimal value.
+     * @throws IllegalArgumentException if there is no such value.
+     */
+    public BigDecimal leafAsBigDecimal(int idx) {
+        return ((JsonNumber) value(idx, JsonValue.ValueType.NUMBER))
+            .bigDecimalValue();
+    }
+
+    /**
+     * Get a {@code double} type value.
+     * @param idx Position of the pointer, starting from 0.
+     * @return Double value.
+     * @throws IllegalArgumentException if there is no such value.
+     */
+    public double leafAsDouble(int idx) {
+        return ((JsonNumber) value(idx, JsonValue.ValueType.NUMBER))
+            .doubleValue();
+    }
+
+    /**
+     * Get a {@code double} type value.
+     * @param idx Position of the pointer, starting from 0.
+     * @param fallback Value to return if there is no number.
+     * @return Double value, or the fallback.
+     */
+    public double leafAsDouble(int idx, double fallback) {
+        final JsonNumber number = number(idx);
+        final double value;
+        if (number == null) {
+            value = fallback;
+        } else {
+            value = number.doubleValue();
+        }
+        return value;
+    }
+
+    /**
+     * Get a {@code boolean} type value.
+     * @param idx Position of the pointer, starting from 0.
+     * @return Boolean value.
+     * @throws IllegalArgumentException if there is no such value.
+     */
+    public boolean leafAsBool(int idx) {
+        final JsonValue value = values.value()[idx];
+        if (!JsonValue.TRUE.equals(value) && !JsonValue.FALSE.equals(value)) {
+            throw absent(idx);
+        }
+        return JsonValue.TRUE.equals(value);
+    }
+
+    /**
+     * Get a {@code boolean} type value.
+     * @param idx Position of the pointer, starting from 0.
+     * @param fallback Value to return if there is no boolean.
+     * @return Boolean value, or the fallback.
+     */
+    public boolean leafAsBool(int idx, boolean fallback) {
+        final JsonValue value = values.value()[idx];
+        return JsonValue.TRUE.equals(value)
+            || fallback && !JsonValue.FALSE.equals(value);
+    }
+
+    /**
+     * Get a nested JSON. It works like {@link SmartJson#at(Pointer)}.
+     * @param idx Position of the pointer, starting from 0.
+     * @return The nested JSON, which could be missing.
+     */
+    public SmartJson at(int idx) {
+        final JsonValue value = values.value()[idx];
+        final SmartJson nested;
+        if (value instanceof JsonStructure) {
+            nested = json.nested((JsonStructure) value);
+        } else {
+            nested = new SmartJson(new MissingJson());
+        }
+        return nested;
+    }
+
+    private JsonNumber number(int idx) {
+        final JsonValue value = values.value()[idx];
+        final JsonNumber number;
+        if (value instanceof JsonNumber) {
+            number = (JsonNumber) value;
+        } else {
+            number = null;
+        }
+        return number;
+    }
+
+    private JsonValue value(int idx, JsonValue.ValueType type) {
+        final JsonValue value = values.value()[idx];
+        if (value == null || value.getValueType() != type) {
+            throw absent(idx);
+        }
+        return value;
+    }
+
+    private IllegalArgumentException absent(int idx) {
+        return new IllegalArgumentException(
+            "No such field of specified type: " + pointers.pointer(idx)
+        );
+    }
+}
@@ -0,0 +1,131 @@
+package com.vzurauskas.nereides.javax;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.function.Supplier;
+import javax.json.JsonNumber;
+import javax.json.JsonString;
+import javax.json.JsonStructure;
+import javax.json.JsonValue;
+
+/**
+ * Leaves of a parsed structure, found by pointers, for the accessors of
+ * {@link SmartJson}. A leaf of another type than the one asked for is the
+ * same as no leaf. Numbers are taken straight from {@link JsonNumber}s, and
+ * the methods which are given a fallback return primitives, so they neither
+ * box them nor make {@link Optional}s.
+ */
+final class Lookup {
+    private final Supplier<JsonStructure> structure;
+
+    Lookup(Supplier<JsonStructure> structure) {
+        this.structure = structure;
+    }
+
+    /**
+     * The value a pointer points to.
+     * @param pointer Path to the value.
+     * @return The value, or null if there is none.
+     */
+    JsonValue value(Pointer pointer) {
+        return pointer.found(structure.get());
+    }
+
+    Optional<String> string(Pointer pointer) {
+        final JsonValue value = value(pointer);
+        final Optional<String> string;
+        if (value instanceof JsonString) {
+            string = Optional.of(((JsonString) value).getString());
+        } else {
+            string = Optional.empty();
+        }
+        return string;
+    }
+
+    Optional<Integer> integer(Pointer pointer) {
+        final JsonNumber number = number(pointer);
+        final Optional<Integer> integer;
+        if (number == null) {
+            integer = Optional.empty();
+        } else {
+            integer = Optional.of(number.intValue());
+        }
+        return integer;
+    }
+
+    OptionalLong whole(Pointer pointer) {
+        final JsonNumber number = number(pointer);
+        final OptionalLong whole;
+        if (number == null) {
+            whole = OptionalLong.empty();
+        } else {
+            whole = OptionalLong.of(number.longValue());
+        }
+        return whole;
+    }
+
+    Optional<Double> real(Pointer pointer) {
+        return Optional.ofNullable(number(pointer))
+            .map(JsonNumber::doubleValue);
+    }
+
+    Optional<BigDecimal> decimal(Pointer pointer) {
+        return Optional.ofNullable(number(pointer))
+            .map(JsonNumber::bigDecimalValue);
+    }
+
+    Optional<Boolean> bool(Pointer pointer) {
+        return Optional.ofNullable(value(pointer)).map(JsonValue.TRUE::equals);
+    }
+
+    int integer(Pointer pointer, int fallback) {
+        final JsonNumber number = number(pointer);
+        final int integer;
+        if (number == null) {
+            integer = fallback;
+        } else {
+            integer = number.intValue();
+        }
+        return integer;
+    }
+
+    long whole(Pointer pointer, long fallback) {
+        final JsonNumber number = number(pointer);
+        final long whole;
+        if (number == null) {
+            whole = fallback;
+        } else {
+            whole = number.longValue();
+        }
+        return whole;
+    }
+
+    double real(Pointer pointer, double fallback) {
+        final JsonNumber number = number(pointer);
+        final double real;
+        if (number == null) {
+            real = fallback;
+        } else {
+            real = number.doubleValue();
+        }
+        return real;
+    }
+
+    boolean bool(Pointer pointer, boolean fallback) {
+        final JsonValue value = value(pointer);
+        return JsonValue.TRUE.equals(value)
+            || fallback && !JsonValue.FALSE.equals(value);
+    }
+
+    private JsonNumber number(Pointer pointer) {
+        final JsonValue value = value(pointer);
+        final JsonNumber number;
+        if (value instanceof JsonNumber) {
+            number = (JsonNumber) value;
+        } else {
+            number = null;
+        }
+        return number;
+    }
+}
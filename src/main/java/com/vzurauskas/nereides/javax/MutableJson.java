@@ -1,8 +1,18 @@
 package com.vzurauskas.nereides.javax;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.json.JsonObject;
-import javax.json.JsonPatchBuilder;
+import javax.json.JsonObjectBuilder;
+import javax.json.JsonValue;
+import javax.json.stream.JsonGenerator;
 
 /**
  * JSON which is mutable and can be used to build custom JSONs, e.g.
@@ -20,20 +30,31 @@ import javax.json.JsonPatchBuilder;
  * )
  * }
  * </pre>
+ * Fields are kept in the order they were added; adding a field with the name
+ * of an existing one replaces its value. Each addition takes constant time,
+ * and the JSON is written out to bytes only when they are asked for after
+ * a change.
  */
 public final class MutableJson implements Json {
 
-    private JsonObject base;
-    private final JsonPatchBuilder patch;
+    private final Factories factories;
+    private final Map<String, Field> fields;
+    private JsonObject built;
+    private byte[] written;
 
     /**
      * Constructor.
      */
     public MutableJson() {
-        this(
-            javax.json.Json.createObjectBuilder().build(),
-            javax.json.Json.createPatchBuilder()
-        );
+        this(Factories.SHARED);
+    }
+
+    /**
+     * Constructor.
+     * @param factories Factories to make and write values with.
+     */
+    public MutableJson(Factories factories) {
+        this(new LinkedHashMap<>(), factories);
     }
 
     /**
@@ -41,15 +62,27 @@ public final class MutableJson implements Json {
      * @param base The base JSON to build upon.
      */
     public MutableJson(Json base) {
-        this(
-            (JsonObject) javax.json.Json.createReader(base.bytes()).read(),
-            javax.json.Json.createPatchBuilder()
-        );
+        this(base, Factories.SHARED);
+    }
+
+    /**
+     * Constructor.
+     * @param base The base JSON to build upon.
+     * @param factories Factories to make and write values with.
+     */
+    public MutableJson(Json base, Factories factories) {
+        this(new LinkedHashMap<>(), factories);
+        for (
+            Map.Entry<String, JsonValue> field
+                : ((JsonObject) new Tree(base, factories).value()).entrySet()
+        ) {
+            fields.put(field.getKey(), new Field.Of(field.getValue()));
+        }
     }
 
-    private MutableJson(JsonObject base, JsonPatchBuilder patch) {
-        this.base = base;
-        this.patch = patch;
+    private MutableJson(Map<String, Field> fields, Factories factories) {
+        this.factories = factories;
+        this.fields = fields;
     }
 
     /**
@@ -59,8 +92,7 @@ public final class MutableJson implements Json {
      * @return This JSON.
      */
     public MutableJson with(String name, String value) {
-        patch.add('/' + name, value);
-        return this;
+        return put(name, factories.provider().createValue(value));
     }
 
     /**
@@ -70,8 +102,7 @@ public final class MutableJson implements Json {
      * @return This JSON.
      */
     public MutableJson with(String name, int value) {
-        patch.add('/' + name, value);
-        return this;
+        return put(name, factories.provider().createValue(value));
     }
 
     /**
@@ -81,8 +112,44 @@ public final class MutableJson implements Json {
      * @return This JSON.
      */
     public MutableJson with(String name, double value) {
-        patch.add('/' + name, javax.json.Json.createValue(value));
-        return this;
+        return put(name, factories.provider().createValue(value));
+    }
+
+    /**
+     * Add an array of {@code int}s to this JSON. The numbers are kept and
+     * written out as primitives.
+     * @param name Name of the field.
+     * @param values Numbers, which are copied.
+     * @return This JSON.
+     */
+    public MutableJson with(String name, int[] values) {
+        return put(
+            name,
+            new NumberArray(Arrays.stream(values).asLongStream().toArray())
+        );
+    }
+
+    /**
+     * Add an array of {@code long}s to this JSON. The numbers are kept and
+     * written out as primitives.
+     * @param name Name of the field.
+     * @param values Numbers, which are copied.
+     * @return This JSON.
+     */
+    public MutableJson with(String name, long[] values) {
+        return put(name, new NumberArray(values.clone()));
+    }
+
+    /**
+     * Add an array of {@code double}s to this JSON. The numbers are kept and
+     * written out as primitives.
+     * @param name Name of the field.
+     * @param values Numbers, which are copied.
+     * @return This JSON.
+     * @throws NumberFormatException If a number is NaN or infinite.
+     */
+    public MutableJson with(String name, double[] values) {
+        return put(name, new NumberArray(values.clone()));
     }
 
     /**
@@ -92,30 +159,99 @@ public final class MutableJson implements Json {
      * @return This JSON.
      */
     public MutableJson with(String name, boolean value) {
-        patch.add('/' + name, value);
-        return this;
+        final JsonValue bool;
+        if (value) {
+            bool = JsonValue.TRUE;
+        } else {
+            bool = JsonValue.FALSE;
+        }
+        return put(name, bool);
     }
 
     /**
      * Add a {@link Json} field to this JSON. If the added {@link Json} is a,
-     * other fields can be added to it, thus enabling nesting.
+     * other fields can be added to it, thus enabling nesting. If it already
+     * holds its parsed structure, e.g. it is another {@code MutableJson},
+     * that structure is added as it is, without being written out and
+     * parsed again.
      * @param name Name of the field.
      * @param value Value of the field.
      * @return This JSON.
      */
     public MutableJson with(String name, Json value) {
-        patch.add('/' + name, new SmartJson(value).jsonStructure());
-        return this;
+        return put(name, new Tree(value, factories).value());
     }
 
     @Override
     public InputStream bytes() {
-        this.base = patch.build().apply(base);
-        return new Json.Of(base).bytes();
+        if (written == null) {
+            ByteArrayOutputStream stream = new ByteArrayOutputStream();
+            try (
+                JsonGenerator generator =
+                    factories.generators().createGenerator(stream)
+            ) {
+                write(generator);
+            }
+            written = stream.toByteArray();
+        }
+        return new ByteArrayInputStream(written);
+    }
+
+    @Override
+    public void writeTo(OutputStream output) throws IOException {
+        if (written == null) {
+            JsonGenerator generator =
+                factories.generators().createGenerator(output);
+            write(generator);
+            generator.flush();
+        } else {
+            output.write(written);
+        }
     }
 
     @Override
     public String toString() {
-        return new String(new ByteArray(this).value());
+        return new String(
+            new ByteArray(this).value(), StandardCharsets.UTF_8
+        );
+    }
+
+    /**
+     * This JSON as it is now, as a {@link JsonObject}. Later changes to this
+     * JSON do not change the returned object.
+     * @return This JSON as {@link JsonObject}.
+     */
+    JsonObject structure() {
+        if (built == null) {
+            JsonObjectBuilder builder = factories.builders()
+                .createObjectBuilder();
+            for (Map.Entry<String, Field> field : fields.entrySet()) {
+                builder.add(
+                    field.getKey(),
+                    field.getValue().value(factories.builders())
+                );
+            }
+            built = builder.build();
+        }
+        return built;
+    }
+
+    private void write(JsonGenerator generator) {
+        generator.writeStartObject();
+        for (Map.Entry<String, Field> field : fields.entrySet()) {
+            field.getValue().write(field.getKey(), generator);
+        }
+        generator.writeEnd();
+    }
+
+    private MutableJson put(String name, JsonValue value) {
+        return put(name, new Field.Of(value));
+    }
+
+    private MutableJson put(String name, Field field) {
+        fields.put(name, field);
+        built = null;
+        written = null;
+        return this;
     }
 }
@@ -0,0 +1,67 @@
+package com.vzurauskas.nereides.javax;
+
+import javax.json.JsonArray;
+import javax.json.JsonArrayBuilder;
+import javax.json.JsonBuilderFactory;
+import javax.json.stream.JsonGenerator;
+
+/**
+ * {@link Field}, which is an array of numbers, kept as primitives. It is
+ * written out number by number, and made into a {@link JsonArray} only when
+ * a structure is needed, so there is no {@link javax.json.JsonNumber} for
+ * each of them. Either longs or doubles are kept, the other one is null.
+ */
+final class NumberArray implements Field {
+    private final long[] longs;
+    private final double[] doubles;
+
+    NumberArray(long[] longs) {
+        this(longs, null);
+    }
+
+    NumberArray(double[] doubles) {
+        this(null, doubles);
+        for (double value : doubles) {
+            if (!Double.isFinite(value)) {
+                throw new NumberFormatException(
+                    "JSON numbers cannot be NaN or infinite: " + value
+                );
+            }
+        }
+    }
+
+    private NumberArray(long[] longs, double[] doubles) {
+        this.longs = longs;
+        this.doubles = doubles;
+    }
+
+    @Override
+    public void write(String name, JsonGenerator generator) {
+        generator.writeStartArray(name);
+        if (longs == null) {
+            for (double value : doubles) {
+                generator.write(value);
+            }
+        } else {
+            for (long value : longs) {
+                generator.write(value);
+            }
+        }
+        generator.writeEnd();
+    }
+
+    @Override
+    public JsonArray value(JsonBuilderFactory builders) {
+        final JsonArrayBuilder builder = builders.createArrayBuilder();
+        if (longs == null) {
+            for (double value : doubles) {
+                builder.add(value);
+            }
+        } else {
+            for (long value : longs) {
+                builder.add(value);
+            }
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,228 @@
+package com.vzurauskas.nereides.javax;
+
+import java.nio.DoubleBuffer;
+import java.nio.LongBuffer;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.LongConsumer;
+import java.util.function.ToLongFunction;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import javax.json.JsonNumber;
+import javax.json.JsonStructure;
+import javax.json.JsonValue;
+import javax.json.stream.JsonParser;
+
+/**
+ * Numbers of an array within a JSON, as an array or a buffer of primitives,
+ * e.g.
+ * <pre>
+ * {@code
+ * double[] embedding = new Numbers(json, new Pointer("/embedding"))
+ *     .doubles();
+ * }
+ * </pre>
+ * Unless the JSON is already parsed, the numbers are read straight from its
+ * bytes, one after another, so no {@link JsonValue} is made for the array
+ * or any of its elements. If there is no array where the pointer points to,
+ * there are no numbers. See {@link MutableJson#with(String, double[])} for
+ * the other way around.
+ */
+public final class Numbers {
+    private final Json json;
+    private final Pointer pointer;
+    private final Factories factories;
+
+    /**
+     * Constructor.
+     * @param json JSON, which is an array of numbers.
+     */
+    public Numbers(Json json) {
+        this(json, new Pointer(""));
+    }
+
+    /**
+     * Constructor.
+     * @param json JSON, which has an array of numbers nested within it.
+     * @param pointer Pointer to the array.
+     */
+    public Numbers(Json json, Pointer pointer) {
+        this(json, pointer, Factories.SHARED);
+    }
+
+    /**
+     * Constructor.
+     * @param json JSON, which has an array of numbers nested within it.
+     * @param pointer Pointer to the array.
+     * @param factories Factories to parse the JSON with.
+     */
+    public Numbers(Json json, Pointer pointer, Factories factories) {
+        this.json = json;
+        this.pointer = pointer;
+        this.factories = factories;
+    }
+
+    /**
+     * Numbers as {@code int}s. They are not rounded, cut off or wrapped
+     * around, so each of them must be an {@code int} exactly.
+     * @return Numbers.
+     * @throws IllegalArgumentException If an element is not a number, has
+     *  a fraction or is out of the range of {@code int}.
+     */
+    public int[] ints() {
+        final IntStream.Builder ints = IntStream.builder();
+        each(
+            number -> ints.add((int) exact(number, JsonNumber::intValueExact))
+        );
+        return ints.build().toArray();
+    }
+
+    /**
+     * Numbers as {@code long}s. They are not rounded, cut off or wrapped
+     * around, so each of them must be a {@code long} exactly.
+     * @return Numbers.
+     * @throws IllegalArgumentException If an element is not a number, has
+     *  a fraction or is out of the range of {@code long}.
+     */
+    public long[] longs() {
+        final LongStream.Builder longs = LongStream.builder();
+        longs(longs);
+        return longs.build().toArray();
+    }
+
+    /**
+     * Numbers as {@code double}s.
+     * @return Numbers.
+     * @throws IllegalArgumentException If an element is not a number.
+     */
+    public double[] doubles() {
+        final DoubleStream.Builder doubles = DoubleStream.builder();
+        doubles(doubles);
+        return doubles.build().toArray();
+    }
+
+    /**
+     * Put the numbers, as {@code long}s, into a buffer, from its position
+     * on.
+     * @param buffer Buffer to put the numbers into.
+     * @return How many numbers have been put.
+     * @throws IllegalArgumentException If an element is not a number, has
+     *  a fraction or is out of the range of {@code long}.
+     * @throws java.nio.BufferOverflowException If they do not fit.
+     */
+    public int into(LongBuffer buffer) {
+        final int start = buffer.position();
+        longs(buffer::put);
+        return buffer.position() - start;
+    }
+
+    /**
+     * Put the numbers, as {@code double}s, into a buffer, from its position
+     * on.
+     * @param buffer Buffer to put the numbers into.
+     * @return How many numbers have been put.
+     * @throws IllegalArgumentException If an element is not a number.
+     * @throws java.nio.BufferOverflowException If they do not fit.
+     */
+    public int into(DoubleBuffer buffer) {
+        final int start = buffer.position();
+        doubles(buffer::put);
+        return buffer.position() - start;
+    }
+
+    private void longs(LongConsumer sink) {
+        each(number -> sink.accept(exact(number, JsonNumber::longValueExact)));
+    }
+
+    private void doubles(DoubleConsumer sink) {
+        each(
+            number -> sink.accept(number.doubleValue()),
+            parser -> sink.accept(Double.parseDouble(parser.getString()))
+        );
+    }
+
+    /**
+     * Go through the numbers as {@link JsonNumber}s. The parser makes them
+     * from primitives where they fit, so small numbers are not read as
+     * {@link java.math.BigDecimal}s.
+     * @param sink What to do with a number.
+     */
+    private void each(Consumer<JsonNumber> sink) {
+        each(sink, parser -> sink.accept((JsonNumber) parser.getValue()));
+    }
+
+    /**
+     * Convert a number exactly.
+     * @param number The number.
+     * @param conversion Conversion, which throws {@link ArithmeticException}
+     *  if the number does not fit exactly.
+     * @return Converted number.
+     * @throws IllegalArgumentException If it does not fit exactly.
+     */
+    private long exact(
+        JsonNumber number, ToLongFunction<JsonNumber> conversion
+    ) {
+        final long exact;
+        try {
+            exact = conversion.applyAsLong(number);
+        } catch (ArithmeticException ex) {
+            throw new IllegalArgumentException(
+                "Not all elements fit exactly: " + number + " at " + pointer,
+                ex
+            );
+        }
+        return exact;
+    }
+
+    /**
+     * Go through the numbers, taking them from the structure of the JSON if
+     * it is already parsed, or from the parser otherwise.
+     * @param parsed What to do with a number of the structure.
+     * @param streamed What to do with the parser at a number.
+     */
+    private void each(
+        Consumer<JsonNumber> parsed, Consumer<JsonParser> streamed
+    ) {
+        final Optional<JsonStructure> known = new Tree(json, factories).known();
+        if (known.isPresent()) {
+            for (
+                JsonValue value : pointer.value(known.get())
+                    .filter(
+                        found -> found.getValueType()
+                            == JsonValue.ValueType.ARRAY
+                    )
+                    .map(JsonValue::asJsonArray)
+                    .orElse(JsonValue.EMPTY_JSON_ARRAY)
+            ) {
+                if (!(value instanceof JsonNumber)) {
+                    throw notNumber();
+                }
+                parsed.accept((JsonNumber) value);
+            }
+        } else {
+            try (
+                JsonParser parser =
+                    new ArrayParser(json, pointer, factories).open()
+            ) {
+                for (
+                    JsonParser.Event event = parser.next();
+                    event != JsonParser.Event.END_ARRAY;
+                    event = parser.next()
+                ) {
+                    if (event != JsonParser.Event.VALUE_NUMBER) {
+                        throw notNumber();
+                    }
+                    streamed.accept(parser);
+                }
+            }
+        }
+    }
+
+    private IllegalArgumentException notNumber() {
+        return new IllegalArgumentException(
+            "Not all elements are numbers: " + pointer
+        );
+    }
+}
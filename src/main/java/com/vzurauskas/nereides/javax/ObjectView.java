@@ -0,0 +1,112 @@
+package com.vzurauskas.nereides.javax;
+
+import java.util.AbstractMap;
+import java.util.Objects;
+import javax.json.JsonArray;
+import javax.json.JsonNumber;
+import javax.json.JsonObject;
+import javax.json.JsonString;
+import javax.json.JsonValue;
+
+/**
+ * {@link JsonObject}, which is not a map of its own, but finds its fields
+ * somewhere else. Implementations only need to find a field by its name
+ * and to give all of them; typed getters are made on top of that.
+ */
+abstract class ObjectView extends AbstractMap<String, JsonValue>
+    implements JsonObject {
+
+    @Override
+    public abstract JsonValue get(Object key);
+
+    @Override
+    public final boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public final JsonArray getJsonArray(String name) {
+        return (JsonArray) get(name);
+    }
+
+    @Override
+    public final JsonObject getJsonObject(String name) {
+        return (JsonObject) get(name);
+    }
+
+    @Override
+    public final JsonNumber getJsonNumber(String name) {
+        return (JsonNumber) get(name);
+    }
+
+    @Override
+    public final JsonString getJsonString(String name) {
+        return (JsonString) get(name);
+    }
+
+    @Override
+    public final String getString(String name) {
+        return getJsonString(name).getString();
+    }
+
+    @Override
+    public final String getString(String name, String fallback) {
+        JsonValue value = get(name);
+        final String result;
+        if (value instanceof JsonString) {
+            result = ((JsonString) value).getString();
+        } else {
+            result = fallback;
+        }
+        return result;
+    }
+
+    @Override
+    public final int getInt(String name) {
+        return getJsonNumber(name).intValue();
+    }
+
+    @Override
+    public final int getInt(String name, int fallback) {
+        JsonValue value = get(name);
+        final int result;
+        if (value instanceof JsonNumber) {
+            result = ((JsonNumber) value).intValue();
+        } else {
+            result = fallback;
+        }
+        return result;
+    }
+
+    @Override
+    public final boolean getBoolean(String name) {
+        JsonValue value = Objects.requireNonNull(get(name), name);
+        if (value.getValueType() != ValueType.TRUE
+            && value.getValueType() != ValueType.FALSE) {
+            throw new ClassCastException("Not a boolean: " + name);
+        }
+        return value.getValueType() == ValueType.TRUE;
+    }
+
+    @Override
+    public final boolean getBoolean(String name, boolean fallback) {
+        JsonValue value = get(name);
+        boolean result = fallback;
+        if (JsonValue.TRUE.equals(value)) {
+            result = true;
+        } else if (JsonValue.FALSE.equals(value)) {
+            result = false;
+        }
+        return result;
+    }
+
+    @Override
+    public final boolean isNull(String name) {
+        return get(name).equals(JsonValue.NULL);
+    }
+
+    @Override
+    public final ValueType getValueType() {
+        return ValueType.OBJECT;
+    }
+}
@@ -0,0 +1,178 @@
+package com.vzurauskas.nereides.javax;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link Json}, which keeps its bytes outside of the heap, in blocks of a
+ * {@link Slab}. Many large JSONs, e.g. in a cache, take little of the heap
+ * this way, so the garbage collector has less to go through. The bytes of
+ * the JSON are copied into the slab when it is constructed, and they are
+ * read and written straight from there, so it can be e.g. the origin of a
+ * {@link SmartJson} or a {@link JsonEnvelope}, which are parsed from it.
+ * <p>
+ * Its blocks must be released explicitly. Each holder of the JSON, e.g. a
+ * cache and a request which reads from the cache, calls {@link #retain()}
+ * to hold it, except for the first one, who constructed it, and
+ * {@link #close()} when done with it. Once the last holder closes it, its
+ * blocks are given back to the slab, and it cannot be read any more. The
+ * bytes must not be read after the holder which reads them has closed the
+ * JSON, e.g. with a stream which {@link #bytes()} gave before, as the
+ * blocks may already hold another JSON.
+ */
+public final class OffHeapJson implements Json, AutoCloseable {
+    private final Slab slab;
+    private final ByteBuffer[] blocks;
+    private final AtomicInteger holders;
+
+    /**
+     * Constructor. It copies the bytes of the JSON into the slab.
+     * @param origin The JSON.
+     * @param slab Slab to keep the bytes in.
+     */
+    public OffHeapJson(Json origin, Slab slab) {
+        this.slab = slab;
+        this.blocks = new Blocks(slab).copy(origin);
+        this.holders = new AtomicInteger(1);
+    }
+
+    /**
+     * Hold this JSON once more, so that it is released only after one more
+     * call to {@link #close()}.
+     * @return This JSON.
+     * @throws IllegalStateException If it has already been released.
+     */
+    public OffHeapJson retain() {
+        holders.updateAndGet(held -> held(held) + 1);
+        return this;
+    }
+
+    /**
+     * Stop holding this JSON. It is released when nobody holds it any more.
+     * @throws IllegalStateException If it has already been released.
+     */
+    @Override
+    public void close() {
+        if (holders.updateAndGet(held -> held(held) - 1) == 0) {
+            slab.give(blocks);
+        }
+    }
+
+    @Override
+    public InputStream bytes() {
+        held(holders.get());
+        return new BuffersInputStream(blocks);
+    }
+
+    @Override
+    public void writeTo(WritableByteChannel channel) throws IOException {
+        held(holders.get());
+        for (ByteBuffer block : blocks) {
+            final ByteBuffer content = block.duplicate();
+            while (content.hasRemaining()) {
+                channel.write(content);
+            }
+        }
+    }
+
+    @Override
+    public void writeTo(ByteBuffer buffer) {
+        held(holders.get());
+        for (ByteBuffer block : blocks) {
+            buffer.put(block.duplicate());
+        }
+    }
+
+    @Override
+    public String toString() {
+        return new String(
+            new ByteArray(this).value(), StandardCharsets.UTF_8
+        );
+    }
+
+    /**
+     * Check that the JSON is held.
+     * @param held How many holders it has.
+     * @return How many holders it has.
+     * @throws IllegalStateException If it has none, i.e. it is released.
+     */
+    private static int held(int held) {
+        if (held == 0) {
+            throw new IllegalStateException("Off-heap JSON is released");
+        }
+        return held;
+    }
+
+    /**
+     * {@link OutputStream}, which writes into blocks taken from a slab, one
+     * after another.
+     */
+    private static final class Blocks extends OutputStream {
+        private final Slab slab;
+        private final List<ByteBuffer> taken;
+
+        Blocks(Slab slab) {
+            super();
+            this.slab = slab;
+            this.taken = new ArrayList<>();
+        }
+
+        /**
+         * Copy a JSON into blocks.
+         * @param json The JSON.
+         * @return Blocks, each of them flipped to be read.
+         */
+        // @checkstyle IllegalCatch (20 lines)
+        ByteBuffer[] copy(Json json) {
+            try {
+                new Unchecked<>(
+                    () -> {
+                        json.writeTo(this);
+                        return true;
+                    }
+                ).value();
+            } catch (RuntimeException ex) {
+                slab.give(taken.toArray(new ByteBuffer[0]));
+                throw ex;
+            }
+            for (ByteBuffer block : taken) {
+                ((Buffer) block).flip();
+            }
+            return taken.toArray(new ByteBuffer[0]);
+        }
+
+        @Override
+        public void write(int data) {
+            current().put((byte) data);
+        }
+
+        @Override
+        public void write(byte[] data, int offset, int length) {
+            int written = 0;
+            while (written < length) {
+                final ByteBuffer block = current();
+                final int size = Math.min(length - written, block.remaining());
+                block.put(data, offset + written, size);
+                written += size;
+            }
+        }
+
+        private ByteBuffer current() {
+            if (
+                taken.isEmpty()
+                    || !taken.get(taken.size() - 1).hasRemaining()
+            ) {
+                taken.add(slab.take());
+            }
+            return taken.get(taken.size() - 1);
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package com.vzurauskas.nereides.javax;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * JSON Lines in a file, parsed in parallel. The file is split into ranges
+ * of bytes, each of them going from the first line which starts in it to
+ * the end of the last one, so the ranges can be read and parsed by
+ * different threads, without any of them reading the whole file. Each line
+ * is parsed into a {@link SmartJson} by the thread which reads it, e.g.
+ * <pre>
+ * {@code
+ * try (Stream<SmartJson> lines = new ParallelLines(path).stream()) {
+ *     long errors = new ForkJoinPool(16).submit(
+ *         () -> lines.filter(line -> line.leaf("level").equals("ERROR"))
+ *             .count()
+ *     ).get();
+ * }
+ * }
+ * </pre>
+ * The stream is parallel and runs in the pool of the thread which starts
+ * it, which is the common pool unless a pool of its own is used, as above.
+ * It keeps the order of the lines, unless made
+ * {@link Stream#unordered()}, which lets it go faster. Empty lines are
+ * skipped, and a carriage return at the end of a line is dropped. See
+ * {@link JsonLines} to read lines one after another.
+ */
+public final class ParallelLines {
+    private final Path path;
+    private final int minimum;
+
+    /**
+     * Constructor.
+     * @param path Path to the file.
+     */
+    public ParallelLines(Path path) {
+        this(path, 1 << 20);
+    }
+
+    ParallelLines(Path path, int minimum) {
+        this.path = path;
+        this.minimum = minimum;
+    }
+
+    /**
+     * Lines as a parallel stream. The file is closed when the stream is
+     * closed.
+     * @return Parsed lines.
+     */
+    public Stream<SmartJson> stream() {
+        final FileChannel channel = new Unchecked<>(
+            () -> FileChannel.open(path)
+        ).value();
+        return StreamSupport.stream(
+            new Range(
+                channel, 0, new Unchecked<>(channel::size).value(), minimum
+            ),
+            true
+        ).onClose(
+            () -> new Unchecked<>(
+                () -> {
+                    channel.close();
+                    return true;
+                }
+            ).value()
+        );
+    }
+
+    /**
+     * Lines which start within a range of bytes of the file. The file is
+     * read with positional reads, so ranges can be read concurrently.
+     */
+    private static final class Range implements Spliterator<SmartJson> {
+        private final FileChannel channel;
+        private final int minimum;
+        private long position;
+        private long end;
+        private boolean aligned;
+        private byte[] bytes;
+        private long base;
+        private int size;
+
+        Range(FileChannel channel, long position, long end, int minimum) {
+            this.channel = channel;
+            this.minimum = minimum;
+            this.position = position;
+            this.end = end;
+            this.aligned = position == 0;
+            this.bytes = new byte[Math.min(minimum, 1 << 16)];
+            this.base = position;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super SmartJson> action) {
+            if (!aligned) {
+                base = position - 1;
+                size = 0;
+                position = newline(base) + 1;
+                aligned = true;
+            }
+            while (position < end) {
+                final long line = position;
+                final long newline = newline(line);
+                position = newline + 1;
+                int length = (int) (newline - line);
+                if (length > 0 && bytes[(int) (newline - 1 - base)] == '\r') {
+                    --length;
+                }
+                if (length > 0) {
+                    action.accept(
+                        new SmartJson(
+                            new ParsedJson(
+                                new Tree(
+                                    new SliceJson(
+                                        bytes, (int) (line - base), length
+                                    )
+                                ).value()
+                            )
+                        )
+                    );
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public Spliterator<SmartJson> trySplit() {
+            final Range prefix;
+            if (end - position < 2L * minimum) {
+                prefix = null;
+            } else {
+                final long middle = position + (end - position) / 2;
+                prefix = new Range(channel, position, middle, minimum);
+                prefix.aligned = aligned;
+                position = middle;
+                aligned = false;
+            }
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return Math.max(0, end - position);
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.NONNULL;
+        }
+
+        /**
+         * Find the next new line character, reading the file as needed.
+         * @param from Position in the file to search from. The bytes from
+         *  it on are kept in the buffer.
+         * @return Position of the new line, or the end of the file if
+         *  there is none.
+         */
+        private long newline(long from) {
+            long scan = from;
+            while (
+                scan < base + size
+                    || new Unchecked<>(() -> more(from)).value()
+            ) {
+                if (bytes[(int) (scan - base)] == '\n') {
+                    return scan;
+                }
+                ++scan;
+            }
+            return scan;
+        }
+
+        /**
+         * Read more of the file into the buffer, dropping the bytes before
+         * the given position and making the buffer larger if it is full.
+         * @param from Position of the first byte to keep.
+         * @return Whether anything has been read.
+         * @throws IOException If the file cannot be read.
+         */
+        private boolean more(long from) throws IOException {
+            final int dropped = (int) (from - base);
+            System.arraycopy(bytes, dropped, bytes, 0, size - dropped);
+            size -= dropped;
+            base = from;
+            if (size == bytes.length) {
+                final byte[] larger = new byte[bytes.length * 2];
+                System.arraycopy(bytes, 0, larger, 0, size);
+                bytes = larger;
+            }
+            final int read = channel.read(
+                ByteBuffer.wrap(bytes, size, bytes.length - size), base + size
+            );
+            if (read > 0) {
+                size += read;
+            }
+            return read > 0;
+        }
+    }
+}
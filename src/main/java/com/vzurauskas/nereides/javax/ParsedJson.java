@@ -0,0 +1,63 @@
+package com.vzurauskas.nereides.javax;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import javax.json.JsonStructure;
+import javax.json.JsonWriter;
+import javax.json.stream.JsonGenerator;
+
+/**
+ * {@link Json}, which is already parsed. It is written out to bytes only
+ * when they are first asked for, so that it can be navigated by
+ * {@link SmartJson} without a round trip through bytes.
+ */
+final class ParsedJson implements Json {
+    private final JsonStructure structure;
+    private final Cached<byte[]> written;
+    private final Factories factories;
+
+    ParsedJson(JsonStructure structure) {
+        this(structure, Factories.SHARED);
+    }
+
+    ParsedJson(JsonStructure structure, Factories factories) {
+        this.structure = structure;
+        this.factories = factories;
+        this.written = new Cached<>(
+            () -> {
+                ByteArrayOutputStream stream = new ByteArrayOutputStream();
+                try (
+                    JsonWriter writer =
+                        factories.writers().createWriter(stream)
+                ) {
+                    writer.write(structure);
+                }
+                return stream.toByteArray();
+            }
+        );
+    }
+
+    JsonStructure structure() {
+        return structure;
+    }
+
+    @Override
+    public InputStream bytes() {
+        return new ByteArrayInputStream(written.value());
+    }
+
+    @Override
+    public void writeTo(OutputStream output) throws IOException {
+        if (written.known()) {
+            output.write(written.value());
+        } else {
+            JsonGenerator generator =
+                factories.generators().createGenerator(output);
+            generator.write(structure);
+            generator.flush();
+        }
+    }
+}
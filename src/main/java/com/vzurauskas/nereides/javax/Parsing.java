@@ -0,0 +1,133 @@
+package com.vzurauskas.nereides.javax;
+
+import javax.json.JsonException;
+import javax.json.JsonStructure;
+import javax.json.stream.JsonParser;
+
+/**
+ * The way {@link SmartJson} parses the {@link Json} it wraps, e.g.
+ * <pre>
+ * {@code
+ * SmartJson json = new SmartJson(new Json.Of(bytes), new Parsing.Lazy());
+ * String type = json.leaf("type");
+ * }
+ * </pre>
+ */
+public interface Parsing {
+
+    /**
+     * Parse the JSON.
+     * @param json JSON to parse.
+     * @return Parsed JSON.
+     */
+    JsonStructure structure(Json json);
+
+    /**
+     * {@link Parsing}, which reads the whole JSON into memory at once. This
+     * is what {@link SmartJson} does by default. If the JSON already holds
+     * its structure, e.g. it is a {@link MutableJson}, that structure is
+     * taken instead.
+     */
+    final class Full implements Parsing {
+        private final Factories factories;
+
+        /**
+         * Constructor.
+         */
+        public Full() {
+            this(Factories.SHARED);
+        }
+
+        /**
+         * Constructor.
+         * @param factories Factories to parse with.
+         */
+        public Full(Factories factories) {
+            this.factories = factories;
+        }
+
+        @Override
+        public JsonStructure structure(Json json) {
+            return new Tree(json, factories).value();
+        }
+    }
+
+    /**
+     * {@link Parsing}, which does not read a JSON object into memory until
+     * it has to. Fields of the object, and fields of objects nested in it,
+     * are looked up by streaming through the bytes of the JSON, skipping
+     * unrelated fields. The object is streamed through to its end, as a name
+     * may be repeated, and then the last value wins, the same as with
+     * {@link Full}. The object is read fully, using another
+     * {@link Parsing}, only when all of it is needed, e.g. when it is
+     * iterated or written out.
+     * <p>
+     * This pays off when only a few fields of a large JSON are needed. Each
+     * field is looked up separately, so when many fields are needed, or the
+     * JSON is not an object, {@link Full} is as fast or faster. The
+     * {@link Json} has to give the same bytes each time it is asked.
+     */
+    final class Lazy implements Parsing {
+        private final Parsing full;
+        private final Factories factories;
+
+        /**
+         * Constructor.
+         */
+        public Lazy() {
+            this(new Full());
+        }
+
+        /**
+         * Constructor.
+         * @param factories Factories to parse with.
+         */
+        public Lazy(Factories factories) {
+            this(new Full(factories), factories);
+        }
+
+        /**
+         * Constructor.
+         * @param full Parsing to use when the whole JSON is needed.
+         */
+        public Lazy(Parsing full) {
+            this(full, Factories.SHARED);
+        }
+
+        /**
+         * Constructor.
+         * @param full Parsing to use when the whole JSON is needed.
+         * @param factories Factories to look up fields with.
+         */
+        public Lazy(Parsing full, Factories factories) {
+            this.full = full;
+            this.factories = factories;
+        }
+
+        @Override
+        public JsonStructure structure(Json json) {
+            return new Tree(json, factories).known()
+                .orElseGet(() -> lazy(json));
+        }
+
+        private JsonStructure lazy(Json json) {
+            boolean object;
+            try (
+                JsonParser parser =
+                    factories.parsers().createParser(json.bytes())
+            ) {
+                object = parser.next() == JsonParser.Event.START_OBJECT;
+            } catch (JsonException e) {
+                // Let the full parsing tell what is wrong.
+                object = false;
+            }
+            final JsonStructure structure;
+            if (object) {
+                structure = new LazyObject(json, full, factories);
+            } else {
+                structure = full.structure(json);
+            }
+            return structure;
+        }
+    }
+}
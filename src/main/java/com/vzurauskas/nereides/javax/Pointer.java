@@ -0,0 +1,186 @@
+package com.vzurauskas.nereides.javax;
+
+import java.util.List;
+import java.util.Optional;
+import javax.json.JsonValue;
+
+/**
+ * Path to a value nested within a JSON, written as JSON Pointer
+ * (RFC 6901), e.g. {@code /ocean/rock1/nereid1}. The path is checked and
+ * split into names and array indices once, when the pointer is constructed,
+ * so a pointer which is kept and used many times is faster than giving the
+ * path as a {@link String} each time, e.g.
+ * <pre>
+ * {@code
+ * Pointer hair = new Pointer("/ocean/rock1/nereid1/hair");
+ * String value = new SmartJson(json).leaf(hair);
+ * }
+ * </pre>
+ */
+public final class Pointer {
+    private final String path;
+    private final String[] tokens;
+    private final int[] indices;
+
+    /**
+     * Constructor.
+     * @param path JSON Pointer, i.e. an empty string for the whole JSON, or
+     *  names of fields and indices of array elements, each preceded by a
+     *  forward slash. Within names, "~1" stands for "/" and "~0" for "~".
+     * @throws IllegalArgumentException If the path is not a JSON Pointer.
+     */
+    public Pointer(String path) {
+        this(path, tokens(path));
+    }
+
+    /**
+     * Constructor.
+     * @param names Names of fields, as they are, without escaping.
+     */
+    Pointer(List<String> names) {
+        this(path(names), names.toArray(new String[0]));
+    }
+
+    private Pointer(String path, String[] tokens) {
+        this.path = path;
+        this.tokens = tokens;
+        this.indices = new int[tokens.length];
+        for (int idx = 0; idx < tokens.length; ++idx) {
+            indices[idx] = index(tokens[idx]);
+        }
+    }
+
+    /**
+     * Find the value this pointer points to.
+     * @param root Value to start from.
+     * @return The value, if there is one.
+     */
+    Optional<JsonValue> value(JsonValue root) {
+        return Optional.ofNullable(found(root));
+    }
+
+    /**
+     * Find the value this pointer points to, without wrapping it in an
+     * {@link Optional}.
+     * @param root Value to start from.
+     * @return The value, or null if there is none.
+     */
+    JsonValue found(JsonValue root) {
+        JsonValue value = root;
+        for (int idx = 0; value != null && idx < tokens.length; ++idx) {
+            value = child(value, idx);
+        }
+        return value;
+    }
+
+    /**
+     * Number of steps in this pointer.
+     * @return Number of steps.
+     */
+    int size() {
+        return tokens.length;
+    }
+
+    /**
+     * Name of a field or index of an array element, unescaped.
+     * @param step Step of this pointer, starting from 0.
+     * @return Name or index.
+     */
+    String token(int step) {
+        return tokens[step];
+    }
+
+    /**
+     * Index of an array element.
+     * @param step Step of this pointer, starting from 0.
+     * @return Index, or -1 if the step cannot be an index.
+     */
+    int index(int step) {
+        return indices[step];
+    }
+
+    @Override
+    public String toString() {
+        return path;
+    }
+
+    private JsonValue child(JsonValue parent, int idx) {
+        JsonValue child = null;
+        if (parent.getValueType() == JsonValue.ValueType.OBJECT) {
+            child = parent.asJsonObject().get(tokens[idx]);
+        } else if (parent.getValueType() == JsonValue.ValueType.ARRAY
+            && indices[idx] >= 0
+            && indices[idx] < parent.asJsonArray().size()) {
+            child = parent.asJsonArray().get(indices[idx]);
+        }
+        return child;
+    }
+
+    private static String[] tokens(String path) {
+        final String[] tokens;
+        if (path.isEmpty()) {
+            tokens = new String[0];
+        } else if (path.charAt(0) == '/') {
+            tokens = path.substring(1).split("/", -1);
+            for (int idx = 0; idx < tokens.length; ++idx) {
+                tokens[idx] = unescaped(tokens[idx], path);
+            }
+        } else {
+            throw new IllegalArgumentException(
+                "JSON Pointer must be empty or start with '/': " + path
+            );
+        }
+        return tokens;
+    }
+
+    private static String unescaped(String token, String path) {
+        if (token.indexOf('~') < 0) {
+            return token;
+        }
+        StringBuilder name = new StringBuilder(token.length());
+        for (int idx = 0; idx < token.length(); ++idx) {
+            char chr = token.charAt(idx);
+            if (chr == '~') {
+                ++idx;
+                char next;
+                if (idx < token.length()) {
+                    next = token.charAt(idx);
+                } else {
+                    next = ' ';
+                }
+                if (next == '0') {
+                    chr = '~';
+                } else if (next == '1') {
+                    chr = '/';
+                } else {
+                    throw new IllegalArgumentException(
+                        "'~' must be followed by '0' or '1' in JSON Pointer: "
+                            + path
+                    );
+                }
+            }
+            name.append(chr);
+        }
+        return name.toString();
+    }
+
+    private static String path(List<String> names) {
+        StringBuilder path = new StringBuilder();
+        for (String name : names) {
+            path.append('/').append(
+                name.replace("~", "~0").replace("/", "~1")
+            );
+        }
+        return path.toString();
+    }
+
+    private static int index(String token) {
+        int index = -1;
+        if (!token.isEmpty() && token.length() <= 9
+            && (token.charAt(0) != '0' || token.length() == 1)
+            && token.chars().allMatch(chr -> chr >= '0' && chr <= '9')) {
+            index = Integer.parseInt(token);
+        }
+        return index;
+    }
+}
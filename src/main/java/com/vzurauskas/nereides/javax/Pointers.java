@@ -0,0 +1,264 @@
+package com.vzurauskas.nereides.javax;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import javax.json.JsonStructure;
+import javax.json.JsonValue;
+import javax.json.stream.JsonParser;
+
+/**
+ * Several pointers, merged into a tree by their common steps, so that the
+ * values of all of them can be found in one pass over a JSON: either a walk
+ * over the already parsed structure, or a scan through its bytes, which
+ * skips whatever none of the pointers leads to. Arrays are left as soon as
+ * all the elements the pointers lead to have been found. Objects are read
+ * to their end, since if a name is repeated, the last value wins, the same
+ * as in the parsed structure. Like a {@link Pointer}, it is meant to be
+ * made once and used for many JSONs, see {@link Leaves}.
+ */
+public final class Pointers {
+    private final Pointer[] pointers;
+    private final Step root;
+
+    /**
+     * Constructor.
+     * @param pointers Pointers to merge.
+     */
+    public Pointers(Pointer... pointers) {
+        this.pointers = pointers.clone();
+        this.root = new Step("", -1);
+        for (int idx = 0; idx < pointers.length; ++idx) {
+            Step step = root;
+            for (int token = 0; token < pointers[idx].size(); ++token) {
+                step = step.child(
+                    pointers[idx].token(token), pointers[idx].index(token)
+                );
+            }
+            step.targets.add(idx);
+        }
+    }
+
+    /**
+     * Pointer at the given position.
+     * @param idx Position of the pointer, starting from 0.
+     * @return The pointer.
+     */
+    Pointer pointer(int idx) {
+        return pointers[idx];
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(pointers);
+    }
+
+    /**
+     * Find values in a parsed structure.
+     * @param json Parsed structure.
+     * @return Values in the order of pointers, null where there is none.
+     */
+    JsonValue[] values(JsonValue json) {
+        JsonValue[] values = new JsonValue[pointers.length];
+        root.walk(json, values);
+        return values;
+    }
+
+    /**
+     * Find values in a JSON. If it holds its structure, see {@link Tree},
+     * the structure is walked, otherwise its bytes are scanned through.
+     * @param json JSON to look in.
+     * @param factories Factories to parse the JSON with.
+     * @return Values in the order of pointers, null where there is none.
+     */
+    JsonValue[] values(Json json, Factories factories) {
+        final Optional<JsonStructure> known = new Tree(json, factories).known();
+        final JsonValue[] values;
+        if (known.isPresent()) {
+            values = values(known.get());
+        } else {
+            values = new JsonValue[pointers.length];
+            try (
+                JsonParser parser =
+                    factories.parsers().createParser(json.bytes())
+            ) {
+                root.scan(parser, parser.next(), values, false);
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Step of one or more pointers.
+     */
+    private static final class Step {
+        private final String name;
+        private final int index;
+        private final List<Step> children;
+        private final List<Integer> targets;
+
+        Step(String name, int index) {
+            this.name = name;
+            this.index = index;
+            this.children = new ArrayList<>(1);
+            this.targets = new ArrayList<>(1);
+        }
+
+        Step child(String token, int idx) {
+            Step child = named(token);
+            if (child == null) {
+                child = new Step(token, idx);
+                children.add(child);
+            }
+            return child;
+        }
+
+        void walk(JsonValue value, JsonValue[] values) {
+            for (int target : targets) {
+                values[target] = value;
+            }
+            for (Step child : children) {
+                JsonValue nested = null;
+                if (value.getValueType() == JsonValue.ValueType.OBJECT) {
+                    nested = value.asJsonObject().get(child.name);
+                } else if (value.getValueType() == JsonValue.ValueType.ARRAY
+                    && child.index >= 0
+                    && child.index < value.asJsonArray().size()) {
+                    nested = value.asJsonArray().get(child.index);
+                }
+                if (nested != null) {
+                    child.walk(nested, values);
+                }
+            }
+        }
+
+        /**
+         * Find values of this step and its children, reading the value at
+         * which the parser is.
+         * @param parser Parser at the start of the value.
+         * @param event Event at which the parser is.
+         * @param values Values found so far.
+         * @param whole Whether the parser must be left at the end of the
+         *  value, even if everything has been found before reaching it.
+         */
+        void scan(
+            JsonParser parser, JsonParser.Event event, JsonValue[] values,
+            boolean whole
+        ) {
+            if (!targets.isEmpty()) {
+                walk(parser.getValue(), values);
+            } else if (event == JsonParser.Event.START_OBJECT) {
+                fields(parser, values);
+            } else if (event == JsonParser.Event.START_ARRAY) {
+                elements(parser, values, whole);
+            }
+        }
+
+        /**
+         * Find values of the children in an object. The object is read to
+         * its end, as a name may be repeated, and then the last value wins,
+         * the same as when the object is parsed fully. Values, which none
+         * of the children lead to, are skipped.
+         * @param parser Parser at the start of the object.
+         * @param values Values found so far.
+         */
+        private void fields(JsonParser parser, JsonValue[] values) {
+            for (
+                JsonParser.Event event = parser.next();
+                event == JsonParser.Event.KEY_NAME;
+                event = parser.next()
+            ) {
+                final Step child = named(parser.getString());
+                final JsonParser.Event value = parser.next();
+                if (child == null) {
+                    skip(parser, value);
+                } else {
+                    child.clear(values);
+                    child.scan(parser, value, values, true);
+                }
+            }
+        }
+
+        private void elements(
+            JsonParser parser, JsonValue[] values, boolean whole
+        ) {
+            int found = 0;
+            int idx = 0;
+            JsonParser.Event event = parser.next();
+            while (found < children.size()
+                && event != JsonParser.Event.END_ARRAY) {
+                Step child = indexed(idx);
+                if (child == null) {
+                    skip(parser, event);
+                } else {
+                    child.scan(parser, event, values, true);
+                    ++found;
+                }
+                ++idx;
+                if (found < children.size()) {
+                    event = parser.next();
+                }
+            }
+            if (whole && event != JsonParser.Event.END_ARRAY) {
+                rest(parser);
+            }
+        }
+
+        /**
+         * Forget values of this step and its children, which an earlier
+         * field of the same name has given.
+         * @param values Values found so far.
+         */
+        private void clear(JsonValue[] values) {
+            for (int target : targets) {
+                values[target] = null;
+            }
+            for (Step child : children) {
+                child.clear(values);
+            }
+        }
+
+        private Step named(String field) {
+            for (Step child : children) {
+                if (child.name.equals(field)) {
+                    return child;
+                }
+            }
+            return null;
+        }
+
+        private Step indexed(int idx) {
+            for (Step child : children) {
+                if (child.index == idx) {
+                    return child;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Skip the rest of the array the parser is in. Unlike
+         * {@link JsonParser#skipArray()}, it works after the parser has
+         * moved past the start of the array.
+         * @param parser Parser inside an array.
+         */
+        private static void rest(JsonParser parser) {
+            for (
+                JsonParser.Event event = parser.next();
+                event != JsonParser.Event.END_ARRAY;
+                event = parser.next()
+            ) {
+                skip(parser, event);
+            }
+        }
+
+        private static void skip(JsonParser parser, JsonParser.Event event) {
+            if (event == JsonParser.Event.START_OBJECT) {
+                parser.skipObject();
+            } else if (event == JsonParser.Event.START_ARRAY) {
+                parser.skipArray();
+            }
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.vzurauskas.nereides.javax;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Value read from a source which can be read only once, e.g. a stream or
+ * a reader. It is meant to be {@link Cached}, which reads it again after a
+ * failure: if reading fails, the source is not read again, as some of it
+ * may have been read already, and the rest would be taken for the whole of
+ * it. The failure is kept and thrown again instead.
+ * @param <T> Type of the value.
+ */
+final class ReadOnce<T> implements Supplier<T> {
+    private final Checked<T> read;
+    private final AtomicReference<RuntimeException> failure;
+
+    /**
+     * Constructor.
+     * @param read Reading of the value, which closes the source.
+     */
+    ReadOnce(Checked<T> read) {
+        this.read = read;
+        this.failure = new AtomicReference<>();
+    }
+
+    // @checkstyle IllegalCatch (30 lines)
+    @Override
+    public T get() {
+        final RuntimeException failed = failure.get();
+        if (failed != null) {
+            throw failed;
+        }
+        T value = null;
+        try {
+            value = read.value();
+        } catch (IOException ex) {
+            failure.set(new UncheckedIOException(ex));
+        } catch (RuntimeException ex) {
+            failure.set(ex);
+        } catch (Exception ex) {
+            failure.set(new RuntimeException(ex));
+        }
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+        return value;
+    }
+}
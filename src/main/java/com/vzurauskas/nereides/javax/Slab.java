@@ -0,0 +1,106 @@
+package com.vzurauskas.nereides.javax;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Memory outside of the heap, for {@link OffHeapJson}s to be kept in. It
+ * is allocated as direct buffers, in slabs of many blocks, and handed out
+ * block by block, so a JSON takes as many blocks as its bytes need. Blocks
+ * of released JSONs are handed out again, e.g.
+ * <pre>
+ * {@code
+ * Slab slab = new Slab(64 << 10, 1024); // 64 KiB blocks, 64 MiB slabs
+ * OffHeapJson json = new OffHeapJson(new Json.Of(bytes), slab);
+ * ...
+ * json.close();
+ * }
+ * </pre>
+ * A JSON holds whole blocks, so even a small one takes a block: with the
+ * default 64 KiB blocks, a JSON of 100 bytes holds 64 KiB. A slab meant for
+ * many small JSONs should have blocks about as small as they are, e.g.
+ * {@code new Slab(1 << 10, 1 << 16)} for 1 KiB blocks in 64 MiB slabs.
+ * <p>
+ * Slabs are never given back to the operating system, they are only
+ * reused, so a slab takes as much memory as the most JSONs it has held at
+ * once. A slab is thread safe, and it is meant to be shared by all the
+ * JSONs of e.g. a cache. How much direct memory the JVM can allocate is
+ * limited by its {@code -XX:MaxDirectMemorySize} option.
+ */
+public final class Slab {
+    private final int block;
+    private final int blocks;
+    private final Deque<ByteBuffer> free;
+    private long reserved;
+
+    /**
+     * Constructor. Blocks have 64 KiB, and slabs have 64 MiB.
+     */
+    public Slab() {
+        this(64 << 10, 1024);
+    }
+
+    /**
+     * Constructor.
+     * @param block Size of a block in bytes.
+     * @param blocks How many blocks a slab has.
+     */
+    public Slab(int block, int blocks) {
+        if (block <= 0 || blocks <= 0 || (long) block * blocks > 1 << 30) {
+            throw new IllegalArgumentException(
+                "Blocks must be positive and a slab at most 1 GiB: "
+                    + block + " by " + blocks
+            );
+        }
+        this.block = block;
+        this.blocks = blocks;
+        this.free = new ArrayDeque<>();
+    }
+
+    /**
+     * How many bytes of direct memory have been allocated.
+     * @return Bytes in all slabs.
+     */
+    public synchronized long reserved() {
+        return reserved;
+    }
+
+    /**
+     * How many bytes are in blocks which are not held by any JSON.
+     * @return Bytes in free blocks.
+     */
+    public synchronized long available() {
+        return (long) free.size() * block;
+    }
+
+    /**
+     * Take a free block, allocating a new slab if there are none.
+     * @return Empty block.
+     */
+    synchronized ByteBuffer take() {
+        if (free.isEmpty()) {
+            final ByteBuffer slab = ByteBuffer.allocateDirect(block * blocks);
+            for (int idx = 0; idx < blocks; ++idx) {
+                ((Buffer) slab).limit((idx + 1) * block)
+                    .position(idx * block);
+                free.push(slab.slice());
+            }
+            reserved += (long) block * blocks;
+        }
+        final ByteBuffer taken = free.pop();
+        ((Buffer) taken).clear();
+        return taken;
+    }
+
+    /**
+     * Give blocks back, so that they can be taken again.
+     * @param given Blocks, which must not be used afterwards.
+     */
+    synchronized void give(ByteBuffer... given) {
+        for (ByteBuffer taken : given) {
+            free.push(taken);
+        }
+    }
+}
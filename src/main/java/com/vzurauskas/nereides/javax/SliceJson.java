@@ -0,0 +1,54 @@
+package com.vzurauskas.nereides.javax;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * {@link Json}, which is held in a part of an array of bytes, e.g. a line
+ * of {@link JsonLines}. Like {@link ArrayJson}, it is read and written
+ * straight from the array, without copying it.
+ */
+final class SliceJson implements Json {
+    private final byte[] array;
+    private final int offset;
+    private final int length;
+
+    SliceJson(byte[] array, int offset, int length) {
+        this.array = array;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    @Override
+    public InputStream bytes() {
+        return new ByteArrayInputStream(array, offset, length);
+    }
+
+    @Override
+    public void writeTo(OutputStream output) throws IOException {
+        output.write(array, offset, length);
+    }
+
+    @Override
+    public void writeTo(WritableByteChannel channel) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(array, offset, length);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    @Override
+    public void writeTo(ByteBuffer buffer) {
+        buffer.put(array, offset, length);
+    }
+
+    @Override
+    public String toString() {
+        return new String(array, offset, length, StandardCharsets.UTF_8);
+    }
+}
@@ -1,15 +1,16 @@
 package com.vzurauskas.nereides.javax;
 
+import java.io.IOException;
 import java.io.InputStream;
-import java.io.StringWriter;
-import java.io.Writer;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
 import java.util.Collections;
 import java.util.Optional;
-import javax.json.JsonException;
-import javax.json.JsonObject;
+import java.util.OptionalLong;
 import javax.json.JsonStructure;
 import javax.json.JsonValue;
-import javax.json.stream.JsonGenerator;
 
 /**
  * A smart JSON. It can represent itself in other data types such as,
@@ -33,42 +34,74 @@ public final class SmartJson implements Json {
 
     private final Json origin;
     private final Cached<JsonStructure> structure;
+    private final Factories factories;
+    private final Contents contents;
+    private final Lookup leaves;
 
     /**
      * Constructor.
      * @param origin Original JSON as basis to this {@code SmartJson}.
      */
     public SmartJson(Json origin) {
+        this(origin, Factories.SHARED);
+    }
+
+    /**
+     * Constructor.
+     * @param origin Original JSON as basis to this {@code SmartJson}.
+     * @param factories Factories to parse and write JSONs with.
+     */
+    public SmartJson(Json origin, Factories factories) {
+        this(origin, new Parsing.Full(factories), factories);
+    }
+
+    /**
+     * Constructor.
+     * @param origin Original JSON as basis to this {@code SmartJson}.
+     * @param parsing The way to parse the original JSON.
+     */
+    public SmartJson(Json origin, Parsing parsing) {
+        this(origin, parsing, Factories.SHARED);
+    }
+
+    /**
+     * Constructor.
+     * @param origin Original JSON as basis to this {@code SmartJson}.
+     * @param parsing The way to parse the original JSON.
+     * @param factories Factories to write this JSON and nested JSONs with.
+     */
+    public SmartJson(Json origin, Parsing parsing, Factories factories) {
         this(
-            origin,
-            new Cached<>(
-                () -> new Unchecked<>(
-                    () -> javax.json.Json.createReader(origin.bytes()).read()
-                ).value()
-            )
+            origin, new Cached<>(() -> parsing.structure(origin)), factories
         );
     }
 
-    private SmartJson(Json origin, Cached<JsonStructure> structure) {
+    SmartJson(ParsedJson origin) {
+        this(origin, Factories.SHARED);
+    }
+
+    SmartJson(ParsedJson origin, Factories factories) {
+        this(origin, new Cached<>(origin::structure), factories);
+    }
+
+    private SmartJson(
+        Json origin, Cached<JsonStructure> structure, Factories factories
+    ) {
         this.origin = origin;
         this.structure = structure;
+        this.factories = factories;
+        this.contents = new Contents(origin, structure, factories);
+        this.leaves = new Lookup(structure::value);
     }
 
     /**
-     * Represent this JSON in textual form.
+     * Represent this JSON in textual form. If the original JSON is already
+     * compact, i.e. has no whitespace between its tokens, it is given as it
+     * is, instead of being written out again.
      * @return String representing this JSON in textual form.
      */
     public String textual() {
-        return new Unchecked<>(
-            () -> {
-                try (Writer writer = new StringWriter()) {
-                    javax.json.Json.createWriter(writer).write(
-                        structure.value()
-                    );
-                    return writer.toString();
-                }
-            }
-        ).value();
+        return contents.compact();
     }
 
     /**
@@ -76,26 +109,16 @@ public final class SmartJson implements Json {
      * @return String representing this JSON in pretty format textual form.
      */
     public String pretty() {
-        return new Unchecked<>(
-            () -> {
-                try (Writer writer = new StringWriter()) {
-                    javax.json.Json.createWriterFactory(
-                        Collections.singletonMap(
-                            JsonGenerator.PRETTY_PRINTING, true
-                        )
-                    ).createWriter(writer).write(structure.value());
-                    return writer.toString();
-                }
-            }
-        ).value();
-    }
-
-    /**
-     * Represent this JSON in an array of bytes.
+        return contents.pretty();
+    }
+
+    /**
+     * Represent this JSON in an array of bytes. The bytes are read once,
+     * and each call gives a copy of them.
      * @return Byte array representing this JSON.
      */
     public byte[] byteArray() {
-        return new ByteArray(bytes()).value();
+        return contents.bytes().clone();
     }
 
     /**
@@ -104,12 +127,16 @@ public final class SmartJson implements Json {
      * @return Optional value of the field.
      */
     public Optional<String> optLeaf(String name) {
-        return Optional.of(structure.value().asJsonObject())
-            .filter(
-                o -> o.containsKey(name)
-                    && o.get(name).getValueType() == JsonValue.ValueType.STRING
-            )
-            .map(o -> o.getString(name));
+        return optLeaf(new Pointer(Collections.singletonList(name)));
+    }
+
+    /**
+     * Method to get a {@code String} type value nested within this JSON.
+     * @param pointer Path to the value.
+     * @return Optional value.
+     */
+    public Optional<String> optLeaf(Pointer pointer) {
+        return leaves.string(pointer);
     }
 
     /**
@@ -119,65 +146,163 @@ public final class SmartJson implements Json {
      * @throws IllegalArgumentException if field does not exist.
      */
     public String leaf(String name) {
-        return optLeaf(name).orElseThrow(
-            () -> new IllegalArgumentException(
-                "No such field of specified type: " + name
-            )
-        );
+        return optLeaf(name).orElseThrow(() -> absent(name));
+    }
+
+    /**
+     * Method to get a {@code String} type value nested within this JSON.
+     * @param pointer Path to the value.
+     * @return String value, if it exists.
+     * @throws IllegalArgumentException if value does not exist.
+     */
+    public String leaf(Pointer pointer) {
+        return optLeaf(pointer).orElseThrow(() -> absent(pointer));
     }
 
     /**
      * Method to get an {@code int} type field of this JSON.
      * @param name Name of the field to return.
-     * @return Optional value of the field.
+     * @return Optional value of the field, empty if it is not a number.
      */
     public Optional<Integer> optLeafAsInt(String name) {
-        JsonObject obj = structure.value().asJsonObject();
-        return obj.containsKey(name)
-            ? Optional.of(obj.getInt(name, 0))
-            : Optional.empty();
+        return optLeafAsInt(new Pointer(Collections.singletonList(name)));
+    }
+
+    /**
+     * Method to get an {@code int} type value nested within this JSON.
+     * @param pointer Path to the value.
+     * @return Optional value, empty if it is not a number.
+     */
+    public Optional<Integer> optLeafAsInt(Pointer pointer) {
+        return leaves.integer(pointer);
     }
 
     /**
      * Method to get an {@code int} type field of this JSON.
      * @param name Name of the field to return.
      * @return Int value of the field.
-     * @throws IllegalArgumentException if field does not exist.
+     * @throws IllegalArgumentException if field is not a number.
      */
     public int leafAsInt(String name) {
-        return optLeafAsInt(name).orElseThrow(
-            () -> new IllegalArgumentException(
-                "No such field of specified type: " + name
-            )
-        );
+        return optLeafAsInt(name).orElseThrow(() -> absent(name));
+    }
+
+    /**
+     * Method to get an {@code int} type value nested within this JSON.
+     * @param pointer Path to the value.
+     * @return Int value.
+     * @throws IllegalArgumentException if value is not a number.
+     */
+    public int leafAsInt(Pointer pointer) {
+        return optLeafAsInt(pointer).orElseThrow(() -> absent(pointer));
+    }
+
+    /**
+     * Method to get an {@code int} type value nested within this JSON,
+     * without boxing it.
+     * @param pointer Path to the value.
+     * @param fallback Value to return if it is not a number.
+     * @return Int value, or the fallback.
+     */
+    public int leafAsInt(Pointer pointer, int fallback) {
+        return leaves.integer(pointer, fallback);
+    }
+
+    /**
+     * Method to get a {@code long} type value nested within this JSON.
+     * @param pointer Path to the value.
+     * @return Optional value, empty if it is not a number.
+     */
+    public OptionalLong optLeafAsLong(Pointer pointer) {
+        return leaves.whole(pointer);
+    }
+
+    /**
+     * Method to get a {@code long} type value nested within this JSON.
+     * @param pointer Path to the value.
+     * @return Long value.
+     * @throws IllegalArgumentException if value is not a number.
+     */
+    public long leafAsLong(Pointer pointer) {
+        return optLeafAsLong(pointer).orElseThrow(() -> absent(pointer));
+    }
+
+    /**
+     * Method to get a {@code long} type value nested within this JSON.
+     * @param pointer Path to the value.
+     * @param fallback Value to return if it is not a number.
+     * @return Long value, or the fallback.
+     */
+    public long leafAsLong(Pointer pointer, long fallback) {
+        return leaves.whole(pointer, fallback);
     }
 
     /**
      * Method to get a {@code double} type field of this JSON.
      * @param name Name of the field to return.
-     * @return Optional value of the field.
+     * @return Optional value of the field, empty if it is not a number.
      */
     public Optional<Double> optLeafAsDouble(String name) {
-        return Optional.of(structure.value().asJsonObject())
-            .filter(o -> o.containsKey(name))
-            .filter(
-                o -> o.get(name).getValueType() == JsonValue.ValueType.NUMBER
-            )
-            .map(o -> o.getJsonNumber(name).doubleValue());
+        return optLeafAsDouble(new Pointer(Collections.singletonList(name)));
+    }
+
+    /**
+     * Method to get a {@code double} type value nested within this JSON.
+     * @param pointer Path to the value.
+     * @return Optional value, empty if it is not a number.
+     */
+    public Optional<Double> optLeafAsDouble(Pointer pointer) {
+        return leaves.real(pointer);
     }
 
     /**
      * Method to get an {@code double} type field of this JSON.
      * @param name Name of the field to return.
      * @return Double value of the field.
-     * @throws IllegalArgumentException if field does not exist.
+     * @throws IllegalArgumentException if field is not a number.
      */
     public double leafAsDouble(String name) {
-        return optLeafAsDouble(name).orElseThrow(
-            () -> new IllegalArgumentException(
-                "No such field of specified type: " + name
-            )
-        );
+        return optLeafAsDouble(name).orElseThrow(() -> absent(name));
+    }
+
+    /**
+     * Method to get a {@code double} type value nested within this JSON.
+     * @param pointer Path to the value.
+     * @return Double value.
+     * @throws IllegalArgumentException if value is not a number.
+     */
+    public double leafAsDouble(Pointer pointer) {
+        return optLeafAsDouble(pointer).orElseThrow(() -> absent(pointer));
+    }
+
+    /**
+     * Method to get a {@code double} type value nested within this JSON.
+     * @param pointer Path to the value.
+     * @param fallback Value to return if it is not a number.
+     * @return Double value, or the fallback.
+     */
+    public double leafAsDouble(Pointer pointer, double fallback) {
+        return leaves.real(pointer, fallback);
+    }
+
+    /**
+     * Method to get a number nested within this JSON exactly as it is.
+     * @param pointer Path to the value.
+     * @return Optional value, empty if it is not a number.
+     */
+    public Optional<BigDecimal> optLeafAsBigDecimal(Pointer pointer) {
+        return leaves.decimal(pointer);
+    }
+
+    /**
+     * Method to get a number nested within this JSON exactly as it is.
+     * @param pointer Path to the value.
+     * @return Decimal value.
+     * @throws IllegalArgumentException if value is not a number.
+     */
+    public BigDecimal leafAsBigDecimal(Pointer pointer) {
+        return optLeafAsBigDecimal(pointer)
+            .orElseThrow(() -> absent(pointer));
     }
 
     /**
@@ -186,10 +311,16 @@ public final class SmartJson implements Json {
      * @return Optional value of the field.
      */
     public Optional<Boolean> optLeafAsBool(String name) {
-        JsonObject obj = structure.value().asJsonObject();
-        return obj.containsKey(name)
-            ? Optional.of(obj.getBoolean(name, false))
-            : Optional.empty();
+        return optLeafAsBool(new Pointer(Collections.singletonList(name)));
+    }
+
+    /**
+     * Method to get a {@code boolean} type value nested within this JSON.
+     * @param pointer Path to the value.
+     * @return Optional value.
+     */
+    public Optional<Boolean> optLeafAsBool(Pointer pointer) {
+        return leaves.bool(pointer);
     }
 
     /**
@@ -199,11 +330,27 @@ public final class SmartJson implements Json {
      * @throws IllegalArgumentException if field does not exist.
      */
     public boolean leafAsBool(String name) {
-        return optLeafAsBool(name).orElseThrow(
-            () -> new IllegalArgumentException(
-                "No such field of specified type: " + name
-            )
-        );
+        return optLeafAsBool(name).orElseThrow(() -> absent(name));
+    }
+
+    /**
+     * Method to get a {@code boolean} type value nested within this JSON.
+     * @param pointer Path to the value.
+     * @return Boolean value.
+     * @throws IllegalArgumentException if value does not exist.
+     */
+    public boolean leafAsBool(Pointer pointer) {
+        return optLeafAsBool(pointer).orElseThrow(() -> absent(pointer));
+    }
+
+    /**
+     * Method to get a {@code boolean} type value nested within this JSON.
+     * @param pointer Path to the value.
+     * @param fallback Value to return if it is neither true nor false.
+     * @return Boolean value, or the fallback.
+     */
+    public boolean leafAsBool(Pointer pointer, boolean fallback) {
+        return leaves.bool(pointer, fallback);
     }
 
     /**
@@ -224,28 +371,47 @@ public final class SmartJson implements Json {
      * SmartJson nested = json.at("/path/to/nested/json");}
      * </pre>
      * This method never returns null. If there is no JSON as specified by the
-     * path, a missing JSON is returned, i.e.
-     * {@code returned.isMissing() == true}.
+     * path, or the path leads to a leaf, e.g. a string, a missing JSON is
+     * returned, i.e. {@code returned.isMissing() == true}. The nested JSON
+     * shares the already parsed structure of this JSON.
      * @param path Path to the nested JSON.
      * @return The nested JSON, which could be missing.
      */
     public SmartJson at(String path) {
-        JsonObject whole = structure.value().asJsonObject();
-        JsonValue target;
+        final Pointer pointer;
         try {
-            target = whole.getValue(path);
-        } catch (JsonException e) {
+            pointer = new Pointer(path);
+        } catch (IllegalArgumentException e) {
             return new SmartJson(new MissingJson());
         }
-        return new SmartJson(new Json.Of(target.asJsonObject()));
+        return at(pointer);
     }
 
     /**
-     * Method which tells if this JSON is missing.
+     * Method to get a JSON nested within this JSON, specified by pointer.
+     * It works like {@link #at(String)}.
+     * @param pointer Path to the nested JSON.
+     * @return The nested JSON, which could be missing.
+     */
+    public SmartJson at(Pointer pointer) {
+        final JsonValue value = leaves.value(pointer);
+        final SmartJson nested;
+        if (value instanceof JsonStructure) {
+            nested = nested((JsonStructure) value);
+        } else {
+            nested = new SmartJson(new MissingJson());
+        }
+        return nested;
+    }
+
+    /**
+     * Method which tells if this JSON is missing. It does not read more than
+     * the first byte of the JSON, and nested JSONs given by {@link #at(String)}
+     * know it without reading anything.
      * @return true if this JSON is missing; otherwise false.
      */
     public boolean isMissing() {
-        return byteArray().length == 0;
+        return contents.missing();
     }
 
     @Override
@@ -253,8 +419,69 @@ public final class SmartJson implements Json {
         return origin.bytes();
     }
 
+    @Override
+    public void writeTo(OutputStream output) throws IOException {
+        origin.writeTo(output);
+    }
+
+    @Override
+    public void writeTo(WritableByteChannel channel) throws IOException {
+        origin.writeTo(channel);
+    }
+
+    @Override
+    public void writeTo(ByteBuffer buffer) throws IOException {
+        origin.writeTo(buffer);
+    }
+
     @Override
     public String toString() {
-        return new String(new ByteArray(this).value());
+        return contents.string();
+    }
+
+    /**
+     * The parsed structure of this JSON, if it has been parsed already.
+     * @return The structure, or empty if it has not been parsed yet.
+     */
+    Optional<JsonStructure> parsed() {
+        final Optional<JsonStructure> parsed;
+        if (structure.known()) {
+            parsed = Optional.of(structure.value());
+        } else {
+            parsed = Optional.empty();
+        }
+        return parsed;
+    }
+
+    Json origin() {
+        return origin;
+    }
+
+    /**
+     * A JSON nested within this one, which writes and parses with the same
+     * factories.
+     * @param value Its structure.
+     * @return The nested JSON.
+     */
+    SmartJson nested(JsonStructure value) {
+        return new SmartJson(new ParsedJson(value, factories), factories);
+    }
+
+    /**
+     * Find values of several pointers in one pass. If this JSON is parsed
+     * already, or its original JSON holds its structure, e.g. it is nested
+     * in another one, the structure is walked. Otherwise its bytes are
+     * scanned instead of parsing all of it.
+     * @param pointers Pointers to the values.
+     * @return Values in the order of pointers, null where there is none.
+     */
+    JsonValue[] values(Pointers pointers) {
+        return pointers.values(this, factories);
+    }
+
+    private static IllegalArgumentException absent(Object field) {
+        return new IllegalArgumentException(
+            "No such field of specified type: " + field
+        );
     }
 }
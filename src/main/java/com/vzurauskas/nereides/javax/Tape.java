@@ -0,0 +1,428 @@
+package com.vzurauskas.nereides.javax;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import javax.json.JsonException;
+import javax.json.JsonValue;
+
+/**
+ * Bytes of a JSON in UTF-8 and a flat index of the values in them. Each
+ * value takes three ints of the index: its kind, where it starts in the
+ * bytes, and where it ends. For objects and arrays, the last one is the
+ * position in the index of the value which comes after them, so they can
+ * be skipped, and the kind holds how many fields or elements they have.
+ * Fields of an object take two values each, the name and the value.
+ * Nothing is decoded when the index is made; strings and numbers are
+ * decoded from the bytes each time they are asked for.
+ */
+final class Tape {
+    static final int OBJECT = 0;
+    static final int ARRAY = 1;
+    static final int STRING = 2;
+    static final int NUMBER = 3;
+    static final int TRUE = 4;
+    static final int FALSE = 5;
+    static final int NULL = 6;
+    private static final int KIND = 7;
+    private static final int ESCAPED = 8;
+    private static final int COUNT = 4;
+
+    private final byte[] bytes;
+    private final int[] nodes;
+    private final Factories factories;
+
+    /**
+     * Constructor, which reads through the bytes to index them.
+     * @param bytes A JSON object or array in UTF-8, which is not copied.
+     * @param factories Factories to make strings and numbers, and to write
+     *  objects and arrays, with.
+     * @throws JsonException If the bytes are not valid JSON.
+     */
+    Tape(byte[] bytes, Factories factories) {
+        this.bytes = bytes;
+        this.nodes = new Scan(bytes).nodes();
+        this.factories = factories;
+    }
+
+    /**
+     * Factories, which the values of this tape are made and written with.
+     * @return Factories.
+     */
+    Factories factories() {
+        return factories;
+    }
+
+    /**
+     * The value at a position of the index.
+     * @param node Position of the value.
+     * @return The value, which is a view on this tape if it is an object or
+     *  an array.
+     */
+    JsonValue value(int node) {
+        final int kind = kind(node);
+        final JsonValue value;
+        if (kind == OBJECT) {
+            value = new TapeObject(this, node);
+        } else if (kind == ARRAY) {
+            value = new TapeArray(this, node);
+        } else if (kind == STRING) {
+            value = factories.provider().createValue(string(node));
+        } else if (kind == NUMBER) {
+            value = number(node);
+        } else if (kind == TRUE) {
+            value = JsonValue.TRUE;
+        } else if (kind == FALSE) {
+            value = JsonValue.FALSE;
+        } else {
+            value = JsonValue.NULL;
+        }
+        return value;
+    }
+
+    /**
+     * Kind of the value.
+     * @param node Position of the value.
+     * @return Kind.
+     */
+    int kind(int node) {
+        return nodes[node * 3] & KIND;
+    }
+
+    /**
+     * How many fields or elements an object or an array has.
+     * @param node Position of the object or array.
+     * @return Number of fields or elements.
+     */
+    int count(int node) {
+        return nodes[node * 3] >>> COUNT;
+    }
+
+    /**
+     * Position of the value which comes after this one, skipping all that
+     * is nested in it.
+     * @param node Position of the value.
+     * @return Position of the next value.
+     */
+    int next(int node) {
+        final int next;
+        if (kind(node) <= ARRAY) {
+            next = nodes[node * 3 + 2];
+        } else {
+            next = node + 1;
+        }
+        return next;
+    }
+
+    /**
+     * Tell if a string is equal to a name, without decoding the string if
+     * there are no escapes in it.
+     * @param node Position of the string.
+     * @param name The name in UTF-8.
+     * @param text The name.
+     * @return Whether the string is the name.
+     */
+    boolean named(int node, byte[] name, String text) {
+        final boolean named;
+        if ((nodes[node * 3] & ESCAPED) == 0) {
+            final int start = nodes[node * 3 + 1] + 1;
+            final int end = nodes[node * 3 + 2] - 1;
+            named = end - start == name.length
+                && equal(start, name);
+        } else {
+            named = string(node).equals(text);
+        }
+        return named;
+    }
+
+    /**
+     * Decode a string.
+     * @param node Position of the string.
+     * @return The string.
+     */
+    String string(int node) {
+        final int start = nodes[node * 3 + 1] + 1;
+        final int end = nodes[node * 3 + 2] - 1;
+        final String string;
+        if ((nodes[node * 3] & ESCAPED) == 0) {
+            string = new String(
+                bytes, start, end - start, StandardCharsets.UTF_8
+            );
+        } else {
+            string = unescaped(start, end);
+        }
+        return string;
+    }
+
+    private boolean equal(int start, byte[] name) {
+        boolean equal = true;
+        for (int idx = 0; equal && idx < name.length; ++idx) {
+            equal = bytes[start + idx] == name[idx];
+        }
+        return equal;
+    }
+
+    private String unescaped(int start, int end) {
+        final StringBuilder string = new StringBuilder(end - start);
+        int from = start;
+        for (int pos = start; pos < end; ++pos) {
+            if (bytes[pos] == '\\') {
+                string.append(
+                    new String(bytes, from, pos - from, StandardCharsets.UTF_8)
+                );
+                ++pos;
+                if (bytes[pos] == 'u') {
+                    string.append(
+                        (char) Integer.parseInt(
+                            new String(
+                                bytes, pos + 1, 4, StandardCharsets.US_ASCII
+                            ),
+                            16
+                        )
+                    );
+                    pos += 4;
+                } else {
+                    final int escape = "bfnrt".indexOf(bytes[pos]);
+                    if (escape < 0) {
+                        string.append((char) bytes[pos]);
+                    } else {
+                        string.append("\b\f\n\r\t".charAt(escape));
+                    }
+                }
+                from = pos + 1;
+            }
+        }
+        return string.append(
+            new String(bytes, from, end - from, StandardCharsets.UTF_8)
+        ).toString();
+    }
+
+    private JsonValue number(int node) {
+        final int start = nodes[node * 3 + 1];
+        final int end = nodes[node * 3 + 2];
+        final String text = new String(
+            bytes, start, end - start, StandardCharsets.US_ASCII
+        );
+        boolean integral = end - start <= 18;
+        for (int pos = start; integral && pos < end; ++pos) {
+            integral = bytes[pos] != '.' && (bytes[pos] | 0x20) != 'e';
+        }
+        final JsonValue number;
+        if (integral) {
+            number = factories.provider().createValue(
+                Long.parseLong(text)
+            );
+        } else {
+            number = factories.provider().createValue(
+                new BigDecimal(text)
+            );
+        }
+        return number;
+    }
+
+    /**
+     * Reading of the bytes into the index, value by value. It checks that
+     * the bytes are valid JSON, except that it does not check that strings
+     * are valid UTF-8: as with other parsers, invalid bytes are decoded as
+     * replacement characters. It stops at the end of the object or array,
+     * and what comes after it is not read, as other parsers do not read it
+     * either.
+     */
+    private static final class Scan {
+        private final byte[] bytes;
+        private int[] nodes;
+        private int size;
+        private int pos;
+
+        Scan(byte[] bytes) {
+            this.bytes = bytes;
+            this.nodes = new int[3 * Math.max(16, bytes.length / 6)];
+        }
+
+        int[] nodes() {
+            final byte first = skip();
+            if (first != '{' && first != '[') {
+                throw invalid();
+            }
+            value();
+            return Arrays.copyOf(nodes, size * 3);
+        }
+
+        private void value() {
+            final byte current = skip();
+            if (current == '{') {
+                container(OBJECT, '}');
+            } else if (current == '[') {
+                container(ARRAY, ']');
+            } else if (current == '"') {
+                string();
+            } else if (current == '-' || current >= '0' && current <= '9') {
+                number();
+            } else if (current == 't') {
+                literal("true", TRUE);
+            } else if (current == 'f') {
+                literal("false", FALSE);
+            } else {
+                literal("null", NULL);
+            }
+        }
+
+        private void container(int kind, char end) {
+            final int node = node(kind, pos);
+            ++pos;
+            int count = 0;
+            if (skip() == end) {
+                ++pos;
+            } else {
+                byte current;
+                do {
+                    if (kind == OBJECT) {
+                        field();
+                    } else {
+                        value();
+                    }
+                    ++count;
+                    current = skip();
+                    if (current == ',') {
+                        ++pos;
+                    }
+                } while (current == ',');
+                expect(end);
+            }
+            nodes[node * 3] |= count << COUNT;
+            nodes[node * 3 + 2] = size;
+        }
+
+        private void field() {
+            if (skip() != '"') {
+                throw invalid();
+            }
+            string();
+            expect(':');
+            value();
+        }
+
+        private void string() {
+            final int node = node(STRING, pos);
+            ++pos;
+            while (at() != '"') {
+                final int current = at() & 0xFF;
+                if (current == '\\') {
+                    nodes[node * 3] |= ESCAPED;
+                    ++pos;
+                    escape();
+                } else if (current < ' ') {
+                    throw invalid();
+                }
+                ++pos;
+            }
+            ++pos;
+            nodes[node * 3 + 2] = pos;
+        }
+
+        private void escape() {
+            if (at() == 'u') {
+                for (int idx = 0; idx < 4; ++idx) {
+                    ++pos;
+                    if (Character.digit(at(), 16) < 0) {
+                        throw invalid();
+                    }
+                }
+            } else if ("\"\\/bfnrt".indexOf(at()) < 0) {
+                throw invalid();
+            }
+        }
+
+        private void number() {
+            final int node = node(NUMBER, pos);
+            if (at() == '-') {
+                ++pos;
+            }
+            if (at() == '0') {
+                ++pos;
+            } else {
+                digits();
+            }
+            if (at() == '.') {
+                ++pos;
+                digits();
+            }
+            if ((at() | 0x20) == 'e') {
+                ++pos;
+                if (at() == '+' || at() == '-') {
+                    ++pos;
+                }
+                digits();
+            }
+            nodes[node * 3 + 2] = pos;
+        }
+
+        private void digits() {
+            if (at() < '0' || at() > '9') {
+                throw invalid();
+            }
+            while (at() >= '0' && at() <= '9') {
+                ++pos;
+            }
+        }
+
+        private void literal(String word, int kind) {
+            final int node = node(kind, pos);
+            for (int idx = 0; idx < word.length(); ++idx) {
+                if (at() != word.charAt(idx)) {
+                    throw invalid();
+                }
+                ++pos;
+            }
+            nodes[node * 3 + 2] = pos;
+        }
+
+        private void expect(char expected) {
+            if (skip() != expected) {
+                throw invalid();
+            }
+            ++pos;
+        }
+
+        /**
+         * Skip whitespace.
+         * @return The byte after it, or zero at the end.
+         */
+        private byte skip() {
+            byte current = at();
+            while (
+                current == ' ' || current == '\n' || current == '\r'
+                    || current == '\t'
+            ) {
+                ++pos;
+                current = at();
+            }
+            return current;
+        }
+
+        /**
+         * The current byte.
+         * @return The byte, or zero at the end.
+         */
+        private byte at() {
+            byte current = 0;
+            if (pos < bytes.length) {
+                current = bytes[pos];
+            }
+            return current;
+        }
+
+        private int node(int kind, int start) {
+            if (size * 3 == nodes.length) {
+                nodes = Arrays.copyOf(nodes, nodes.length * 2);
+            }
+            nodes[size * 3] = kind;
+            nodes[size * 3 + 1] = start;
+            return size++;
+        }
+
+        private JsonException invalid() {
+            return new JsonException("Invalid JSON at byte " + pos);
+        }
+    }
+}
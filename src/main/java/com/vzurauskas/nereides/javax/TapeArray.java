@@ -0,0 +1,153 @@
+package com.vzurauskas.nereides.javax;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+import javax.json.JsonArray;
+import javax.json.JsonNumber;
+import javax.json.JsonObject;
+import javax.json.JsonString;
+import javax.json.JsonValue;
+
+/**
+ * {@link JsonArray} on a {@link Tape}. The positions of the elements are
+ * found the first time they are needed, and elements are decoded only when
+ * they are asked for.
+ */
+final class TapeArray extends AbstractList<JsonValue>
+    implements JsonArray, RandomAccess {
+    private final Tape tape;
+    private final int node;
+    private final Cached<int[]> elements;
+
+    TapeArray(Tape tape, int node) {
+        this.tape = tape;
+        this.node = node;
+        this.elements = new Cached<>(
+            () -> {
+                final int[] positions = new int[tape.count(node)];
+                int element = node + 1;
+                for (int idx = 0; idx < positions.length; ++idx) {
+                    positions[idx] = element;
+                    element = tape.next(element);
+                }
+                return positions;
+            }
+        );
+    }
+
+    @Override
+    public JsonValue get(int index) {
+        return tape.value(elements.value()[index]);
+    }
+
+    @Override
+    public int size() {
+        return tape.count(node);
+    }
+
+    @Override
+    public JsonObject getJsonObject(int index) {
+        return (JsonObject) get(index);
+    }
+
+    @Override
+    public JsonArray getJsonArray(int index) {
+        return (JsonArray) get(index);
+    }
+
+    @Override
+    public JsonNumber getJsonNumber(int index) {
+        return (JsonNumber) get(index);
+    }
+
+    @Override
+    public JsonString getJsonString(int index) {
+        return (JsonString) get(index);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends JsonValue> List<T> getValuesAs(Class<T> type) {
+        return (List<T>) this;
+    }
+
+    @Override
+    public String getString(int index) {
+        return getJsonString(index).getString();
+    }
+
+    @Override
+    public String getString(int index, String fallback) {
+        final JsonValue value = found(index);
+        final String result;
+        if (value instanceof JsonString) {
+            result = ((JsonString) value).getString();
+        } else {
+            result = fallback;
+        }
+        return result;
+    }
+
+    @Override
+    public int getInt(int index) {
+        return getJsonNumber(index).intValue();
+    }
+
+    @Override
+    public int getInt(int index, int fallback) {
+        final JsonValue value = found(index);
+        final int result;
+        if (value instanceof JsonNumber) {
+            result = ((JsonNumber) value).intValue();
+        } else {
+            result = fallback;
+        }
+        return result;
+    }
+
+    @Override
+    public boolean getBoolean(int index) {
+        final JsonValue value = get(index);
+        if (value.getValueType() != ValueType.TRUE
+            && value.getValueType() != ValueType.FALSE) {
+            throw new ClassCastException("Not a boolean: " + index);
+        }
+        return value.getValueType() == ValueType.TRUE;
+    }
+
+    @Override
+    public boolean getBoolean(int index, boolean fallback) {
+        final JsonValue value = found(index);
+        boolean result = fallback;
+        if (JsonValue.TRUE.equals(value)) {
+            result = true;
+        } else if (JsonValue.FALSE.equals(value)) {
+            result = false;
+        }
+        return result;
+    }
+
+    @Override
+    public boolean isNull(int index) {
+        return get(index).equals(JsonValue.NULL);
+    }
+
+    @Override
+    public ValueType getValueType() {
+        return ValueType.ARRAY;
+    }
+
+    @Override
+    public String toString() {
+        return new Text(this, tape.factories().writers()).value();
+    }
+
+    private JsonValue found(int index) {
+        JsonValue value = null;
+        if (index >= 0 && index < size()) {
+            value = get(index);
+        }
+        return value;
+    }
+}
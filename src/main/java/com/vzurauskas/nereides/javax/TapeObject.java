@@ -0,0 +1,143 @@
+package com.vzurauskas.nereides.javax;
+
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import javax.json.JsonValue;
+
+/**
+ * {@link javax.json.JsonObject} on a {@link Tape}. Fields are looked up by
+ * going through the names of the object one after another, comparing their
+ * bytes, and their values are decoded only when they are found. If a name
+ * is repeated, the last value wins, and the field stays where the name is
+ * first, the same as when the object is parsed fully.
+ */
+final class TapeObject extends ObjectView {
+    private final Tape tape;
+    private final int node;
+    private volatile String[] names;
+    private int[] values;
+
+    TapeObject(Tape tape, int node) {
+        this.tape = tape;
+        this.node = node;
+    }
+
+    @Override
+    public JsonValue get(Object key) {
+        int found = -1;
+        if (key instanceof String) {
+            final String text = (String) key;
+            final byte[] name = text.getBytes(StandardCharsets.UTF_8);
+            int field = node + 1;
+            for (int idx = 0; idx < tape.count(node); ++idx) {
+                if (tape.named(field, name, text)) {
+                    found = field + 1;
+                }
+                field = tape.next(field + 1);
+            }
+        }
+        final JsonValue value;
+        if (found < 0) {
+            value = null;
+        } else {
+            value = tape.value(found);
+        }
+        return value;
+    }
+
+    @Override
+    public Set<Entry<String, JsonValue>> entrySet() {
+        return new AbstractSet<Entry<String, JsonValue>>() {
+            @Override
+            public Iterator<Entry<String, JsonValue>> iterator() {
+                return new Fields();
+            }
+
+            @Override
+            public int size() {
+                int size = 0;
+                for (String name : names()) {
+                    if (name != null) {
+                        ++size;
+                    }
+                }
+                return size;
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        return new Text(this, tape.factories().writers()).value();
+    }
+
+    /**
+     * Names of the fields, in their order, which are read once, when the
+     * fields are first gone through. Repeated names are null, and the value
+     * of a field is where its name is last. The values are set before the
+     * names, so whoever sees the names sees the values too.
+     * @return Names, null where a name is repeated.
+     */
+    private String[] names() {
+        if (names == null) {
+            final int count = tape.count(node);
+            final String[] read = new String[count];
+            final int[] found = new int[count];
+            final Map<String, Integer> first = new HashMap<>(count * 2);
+            int field = node + 1;
+            for (int idx = 0; idx < count; ++idx) {
+                final String name = tape.string(field);
+                final Integer repeated = first.putIfAbsent(name, idx);
+                if (repeated == null) {
+                    read[idx] = name;
+                    found[idx] = field + 1;
+                } else {
+                    found[repeated] = field + 1;
+                }
+                field = tape.next(field + 1);
+            }
+            values = found;
+            names = read;
+        }
+        return names;
+    }
+
+    /**
+     * Fields of the object, in their order. As the iterator is only used by
+     * {@link java.util.AbstractMap} and {@link java.util.AbstractSet}, which
+     * check {@link #hasNext()}, {@link #next()} does not check it again.
+     */
+    private final class Fields implements Iterator<Entry<String, JsonValue>> {
+        private final String[] all = names();
+        private int idx;
+
+        Fields() {
+            skip();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return idx < all.length;
+        }
+
+        @Override
+        public Entry<String, JsonValue> next() {
+            final Entry<String, JsonValue> entry = new SimpleImmutableEntry<>(
+                all[idx], tape.value(values[idx])
+            );
+            ++idx;
+            skip();
+            return entry;
+        }
+
+        private void skip() {
+            while (idx < all.length && all[idx] == null) {
+                ++idx;
+            }
+        }
+    }
+}
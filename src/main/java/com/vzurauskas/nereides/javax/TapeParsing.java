@@ -0,0 +1,81 @@
+package com.vzurauskas.nereides.javax;
+
+import javax.json.JsonStructure;
+
+/**
+ * {@link Parsing}, which keeps the bytes of the JSON and a flat index of
+ * the values in them, instead of a tree of objects. The index takes twelve
+ * bytes for each value, names of fields included, so a parsed JSON takes a
+ * few times less memory than one parsed by {@link Parsing.Full}, which
+ * makes a map for each object and an object for each value. This pays off
+ * when many parsed JSONs are kept in memory, e.g.
+ * <pre>
+ * {@code
+ * Parsing parsing = new TapeParsing();
+ * SmartJson json = new SmartJson(new Json.Of(bytes), parsing);
+ * table.put(json.leaf("id"), json);
+ * }
+ * </pre>
+ * The structure is read only. Strings and numbers are decoded from the
+ * bytes each time they are asked for, and fields of objects are looked up
+ * by going through the fields one after another, so it is slower to read
+ * than the structure made by {@link Parsing.Full}. JSONs in other encodings
+ * than UTF-8 are parsed by {@link Parsing.Full}, and if the JSON already
+ * holds its structure, e.g. it is a {@link MutableJson}, that structure is
+ * taken instead. As with the other parsings, anything after the object or
+ * array is left unread.
+ */
+public final class TapeParsing implements Parsing {
+    private final Factories factories;
+
+    /**
+     * Constructor.
+     */
+    public TapeParsing() {
+        this(Factories.SHARED);
+    }
+
+    /**
+     * Constructor.
+     * @param factories Factories to make values with.
+     */
+    public TapeParsing(Factories factories) {
+        this.factories = factories;
+    }
+
+    @Override
+    public JsonStructure structure(Json json) {
+        return new Tree(json, factories).known().orElseGet(
+            () -> {
+                final byte[] bytes = new ByteArray(json).value();
+                final JsonStructure structure;
+                if (utf(bytes)) {
+                    structure = (JsonStructure) new Tape(
+                        bytes, factories
+                    ).value(0);
+                } else {
+                    structure = new Parsing.Full(factories)
+                        .structure(new Json.Of(bytes));
+                }
+                return structure;
+            }
+        );
+    }
+
+    /**
+     * Tell if the bytes can be UTF-8, i.e. the first byte which is not
+     * whitespace starts an object or an array, and is not followed by a
+     * zero byte, as it is in UTF-16 and UTF-32.
+     * @param bytes Bytes of a JSON.
+     * @return Whether the bytes are in UTF-8.
+     */
+    private static boolean utf(byte[] bytes) {
+        int idx = 0;
+        while (idx < bytes.length && bytes[idx] > 0 && bytes[idx] <= ' ') {
+            ++idx;
+        }
+        return idx + 1 < bytes.length
+            && (bytes[idx] == '{' || bytes[idx] == '[')
+            && bytes[idx + 1] != 0;
+    }
+}
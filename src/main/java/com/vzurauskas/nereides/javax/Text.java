@@ -0,0 +1,27 @@
+package com.vzurauskas.nereides.javax;
+
+import java.io.StringWriter;
+import java.io.Writer;
+import javax.json.JsonStructure;
+import javax.json.JsonWriterFactory;
+
+final class Text {
+    private final JsonStructure structure;
+    private final JsonWriterFactory writers;
+
+    Text(JsonStructure structure, JsonWriterFactory writers) {
+        this.structure = structure;
+        this.writers = writers;
+    }
+
+    String value() {
+        return new Unchecked<>(
+            () -> {
+                try (Writer writer = new StringWriter()) {
+                    writers.createWriter(writer).write(structure);
+                    return writer.toString();
+                }
+            }
+        ).value();
+    }
+}
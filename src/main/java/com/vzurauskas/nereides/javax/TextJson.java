@@ -0,0 +1,96 @@
+package com.vzurauskas.nereides.javax;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Supplier;
+
+/**
+ * {@link Json}, which is held as characters. They are parsed as they are,
+ * through a {@link Reader}, see {@link Tree}, and encoded in UTF-8 only if
+ * its bytes are asked for. The bytes are encoded once and kept. Strings
+ * which are all ASCII, as JSONs mostly are, are copied into bytes by
+ * {@link String#getBytes(java.nio.charset.Charset)} without a charset
+ * encoder since Java 9.
+ */
+final class TextJson implements Json {
+    private final Supplier<CharSequence> text;
+    private final Json encoded;
+
+    /**
+     * Constructor. The reader is read fully and closed the first time this
+     * {@code Json} is accessed. If reading it fails, it is closed as well,
+     * and every later access fails the same way.
+     * @param reader Reader of the characters.
+     */
+    TextJson(Reader reader) {
+        this(
+            new Cached<CharSequence>(
+                new ReadOnce<>(
+                    () -> {
+                        try (Reader source = reader) {
+                            final StringBuilder read = new StringBuilder();
+                            final char[] block = new char[8192];
+                            int size = source.read(block, 0, block.length);
+                            while (size >= 0) {
+                                read.append(block, 0, size);
+                                size = source.read(block, 0, block.length);
+                            }
+                            return read.toString();
+                        }
+                    }
+                )
+            )::value
+        );
+    }
+
+    /**
+     * Constructor.
+     * @param text The characters.
+     */
+    TextJson(Supplier<CharSequence> text) {
+        this.text = text;
+        final Cached<byte[]> bytes = new Cached<>(
+            () -> text.get().toString().getBytes(StandardCharsets.UTF_8)
+        );
+        this.encoded = new ArrayJson(bytes::value);
+    }
+
+    /**
+     * The characters.
+     * @return Reader of the characters.
+     */
+    Reader chars() {
+        return new StringReader(text.get().toString());
+    }
+
+    @Override
+    public InputStream bytes() {
+        return encoded.bytes();
+    }
+
+    @Override
+    public void writeTo(OutputStream output) throws IOException {
+        encoded.writeTo(output);
+    }
+
+    @Override
+    public void writeTo(WritableByteChannel channel) throws IOException {
+        encoded.writeTo(channel);
+    }
+
+    @Override
+    public void writeTo(ByteBuffer buffer) throws IOException {
+        encoded.writeTo(buffer);
+    }
+
+    @Override
+    public String toString() {
+        return text.get().toString();
+    }
+}
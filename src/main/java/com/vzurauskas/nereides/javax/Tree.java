@@ -0,0 +1,86 @@
+package com.vzurauskas.nereides.javax;
+
+import java.util.Optional;
+import javax.json.JsonReader;
+import javax.json.JsonStructure;
+
+/**
+ * Parsed structure of a {@link Json}. If the {@link Json} already holds its
+ * structure, as a {@link MutableJson}, a {@link Json.Of} made of a
+ * {@link JsonStructure} or a {@link SmartJson} which has been parsed do,
+ * the structure is taken as it is, instead of writing it out to bytes and
+ * parsing them again.
+ */
+final class Tree {
+    private final Json json;
+    private final Factories factories;
+
+    Tree(Json json) {
+        this(json, Factories.SHARED);
+    }
+
+    Tree(Json json, Factories factories) {
+        this.json = json;
+        this.factories = factories;
+    }
+
+    /**
+     * The structure, if it is there without parsing.
+     * @return The structure, or empty if the JSON has to be parsed.
+     */
+    Optional<JsonStructure> known() {
+        final Optional<JsonStructure> known;
+        if (json instanceof ParsedJson) {
+            known = Optional.of(((ParsedJson) json).structure());
+        } else if (json instanceof MutableJson) {
+            known = Optional.of(((MutableJson) json).structure());
+        } else if (json instanceof SmartJson) {
+            SmartJson smart = (SmartJson) json;
+            if (smart.parsed().isPresent()) {
+                known = smart.parsed();
+            } else {
+                known = new Tree(smart.origin(), factories).known();
+            }
+        } else if (json instanceof Json.Of) {
+            known = new Tree(((Json.Of) json).origin(), factories)
+                .known();
+        } else if (json instanceof JsonEnvelope) {
+            known = new Tree(((JsonEnvelope) json).origin(), factories)
+                .known();
+        } else {
+            known = Optional.empty();
+        }
+        return known;
+    }
+
+    /**
+     * The structure, parsed if needed.
+     * @return The structure.
+     */
+    JsonStructure value() {
+        return known().orElseGet(
+            () -> new Unchecked<>(() -> reader().read()).value()
+        );
+    }
+
+    /**
+     * Reader of the JSON. JSONs which are held as characters are read as
+     * they are, instead of being encoded into bytes and decoded back.
+     * @return Reader.
+     */
+    private JsonReader reader() {
+        Json origin = json;
+        if (origin instanceof Json.Of) {
+            origin = ((Json.Of) origin).origin();
+        }
+        final JsonReader reader;
+        if (origin instanceof TextJson) {
+            reader = factories.readers().createReader(
+                ((TextJson) origin).chars()
+            );
+        } else {
+            reader = factories.readers().createReader(json.bytes());
+        }
+        return reader;
+    }
+}
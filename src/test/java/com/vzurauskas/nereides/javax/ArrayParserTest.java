@@ -0,0 +1,66 @@
+package com.vzurauskas.nereides.javax;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.json.JsonException;
+import org.junit.jupiter.api.Test;
+
+final class ArrayParserTest {
+
+    @Test
+    void closesParserIfJsonIsMalformed() {
+        AtomicInteger opened = new AtomicInteger();
+        AtomicInteger closed = new AtomicInteger();
+        Json json = () -> {
+            opened.incrementAndGet();
+            return new ByteArrayInputStream(
+                "{\"a\":[1],\"b\" 2}".getBytes(StandardCharsets.UTF_8)
+            ) {
+                @Override
+                public void close() throws IOException {
+                    closed.incrementAndGet();
+                    super.close();
+                }
+            };
+        };
+        assertThrows(
+            JsonException.class,
+            () -> new ArrayParser(json, new Pointer("/a"), Factories.SHARED)
+                .open()
+        );
+        assertEquals(2, opened.get());
+        assertEquals(2, closed.get());
+    }
+
+    @Test
+    void closesStreamIfItFails() {
+        AtomicInteger closed = new AtomicInteger();
+        Json json = () -> new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("Failed");
+            }
+
+            @Override
+            public void close() throws IOException {
+                closed.incrementAndGet();
+                throw new IOException("Failed to close");
+            }
+        };
+        assertEquals(
+            "Failed to close",
+            assertThrows(
+                UncheckedIOException.class,
+                () -> new ArrayParser(json, new Pointer(""), Factories.SHARED)
+                    .open()
+            ).getSuppressed()[0].getMessage()
+        );
+        assertEquals(1, closed.get());
+    }
+}
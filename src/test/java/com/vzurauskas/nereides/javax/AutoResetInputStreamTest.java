@@ -0,0 +1,61 @@
+package com.vzurauskas.nereides.javax;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+
+final class AutoResetInputStreamTest {
+
+    @Test
+    void readsInBulk() throws IOException {
+        byte[] bytes = "{\"number\": 12}".getBytes();
+        byte[] buffer = new byte[bytes.length + 2];
+        InputStream stream = new AutoResetInputStream(
+            new ByteArrayInputStream(bytes)
+        );
+        assertEquals(bytes.length, stream.read(buffer, 1, bytes.length + 1));
+        assertArrayEquals(
+            bytes,
+            Arrays.copyOfRange(buffer, 1, bytes.length + 1)
+        );
+    }
+
+    @Test
+    void skipsAndTellsAvailable() throws IOException {
+        InputStream stream = new AutoResetInputStream(
+            new ByteArrayInputStream("{\"number\": 12}".getBytes())
+        );
+        assertEquals(11, stream.skip(11));
+        assertEquals(3, stream.available());
+        assertEquals('1', stream.read());
+    }
+
+    @Test
+    void transfersEverything() throws IOException {
+        byte[] bytes = new byte[20_000];
+        Arrays.fill(bytes, (byte) 'a');
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        assertEquals(
+            bytes.length,
+            new AutoResetInputStream(
+                new ByteArrayInputStream(bytes)
+            ).transferTo(output)
+        );
+        assertArrayEquals(bytes, output.toByteArray());
+    }
+
+    @Test
+    void resetsWhenClosed() throws IOException {
+        byte[] bytes = "{\"number\": 12}".getBytes();
+        InputStream stream = new AutoResetInputStream(
+            new ByteArrayInputStream(bytes)
+        );
+        assertArrayEquals(bytes, new ByteArray(stream).value());
+        assertArrayEquals(bytes, new ByteArray(stream).value());
+    }
+}
@@ -0,0 +1,107 @@
+package com.vzurauskas.nereides.javax;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+final class CachedParsingTest {
+
+    @Test
+    void parsesSameBytesOnce() {
+        AtomicInteger parsed = new AtomicInteger();
+        CachedParsing parsing = new CachedParsing(counting(parsed), 10, 1000);
+        SmartJson first = new SmartJson(
+            new Json.Of("{\"nereid\":\"Thetis\"}"), parsing
+        );
+        SmartJson second = new SmartJson(
+            new Json.Of("{\"nereid\":\"Thetis\"}"), parsing
+        );
+        assertEquals("Thetis", first.leaf("nereid"));
+        assertEquals("Thetis", second.leaf("nereid"));
+        assertSame(first.jsonStructure(), second.jsonStructure());
+        assertEquals(1, parsed.get());
+        assertEquals(1, parsing.hits());
+        assertEquals(1, parsing.misses());
+    }
+
+    @Test
+    void tellsApartDocumentsWithSameHash() {
+        CachedParsing parsing = new CachedParsing(10, 1000);
+        assertEquals("Aa", leaf(parsing, "[\"Aa\"]"));
+        assertEquals("BB", leaf(parsing, "[\"BB\"]"));
+        assertEquals("Aa", leaf(parsing, "[\"Aa\"]"));
+        assertEquals(0, parsing.hits());
+        assertEquals(3, parsing.misses());
+        assertEquals(0, parsing.evictions());
+    }
+
+    @Test
+    void dropsLeastRecentlyUsedDocuments() {
+        CachedParsing parsing = new CachedParsing(2, 1000);
+        leaf(parsing, "[\"a\"]");
+        leaf(parsing, "[\"b\"]");
+        leaf(parsing, "[\"a\"]");
+        leaf(parsing, "[\"c\"]");
+        leaf(parsing, "[\"a\"]");
+        assertEquals(1, parsing.evictions());
+        assertEquals(2, parsing.hits());
+        leaf(parsing, "[\"b\"]");
+        assertEquals(2, parsing.hits());
+        assertEquals(4, parsing.misses());
+        assertEquals(2, parsing.evictions());
+    }
+
+    @Test
+    void keepsWithinTotalSize() {
+        CachedParsing parsing = new CachedParsing(10, 10);
+        leaf(parsing, "[\"long one\"]");
+        leaf(parsing, "[\"long one\"]");
+        assertEquals(0, parsing.hits());
+        assertEquals(0, parsing.evictions());
+        leaf(parsing, "[\"ab\"]");
+        leaf(parsing, "[\"cd\"]");
+        assertEquals(1, parsing.evictions());
+        leaf(parsing, "[\"cd\"]");
+        assertEquals(1, parsing.hits());
+    }
+
+    @Test
+    void takesStructureWhichIsThere() {
+        AtomicInteger parsed = new AtomicInteger();
+        CachedParsing parsing = new CachedParsing(counting(parsed), 10, 1000);
+        assertEquals(
+            1,
+            new SmartJson(new MutableJson().with("a", 1), parsing)
+                .leafAsInt("a")
+        );
+        assertEquals(0, parsed.get());
+        assertEquals(0, parsing.misses());
+    }
+
+    @Test
+    void isSharedBetweenThreads() {
+        CachedParsing parsing = new CachedParsing(3, 1000);
+        assertEquals(
+            1000,
+            IntStream.range(0, 1000).parallel()
+                .mapToObj(idx -> leaf(parsing, "[\"" + idx % 5 + "\"]"))
+                .filter(leaf -> leaf.length() == 1)
+                .count()
+        );
+        assertEquals(1000, parsing.hits() + parsing.misses());
+    }
+
+    private static String leaf(Parsing parsing, String json) {
+        return new SmartJson(new Json.Of(json), parsing).jsonStructure()
+            .asJsonArray().getString(0);
+    }
+
+    private static Parsing counting(AtomicInteger parsed) {
+        return json -> {
+            parsed.incrementAndGet();
+            return new Parsing.Full().structure(json);
+        };
+    }
+}
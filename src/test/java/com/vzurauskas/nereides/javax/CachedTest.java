@@ -0,0 +1,164 @@
+package com.vzurauskas.nereides.javax;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+final class CachedTest {
+
+    @Test
+    void computesOnce() {
+        AtomicInteger computations = new AtomicInteger();
+        Cached<Integer> cached = new Cached<>(computations::incrementAndGet);
+        assertEquals(1, cached.value().intValue());
+        assertEquals(1, cached.value().intValue());
+        assertEquals(1, computations.get());
+    }
+
+    @Test
+    void computesOnceUnderContention()
+        throws InterruptedException, ExecutionException {
+        AtomicInteger computations = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        Cached<Integer> cached = new Cached<>(
+            () -> {
+                sleep();
+                return computations.incrementAndGet();
+            }
+        );
+        ExecutorService threads = Executors.newFixedThreadPool(16);
+        try {
+            List<Future<Integer>> values = new ArrayList<>(64);
+            for (int idx = 0; idx < 64; ++idx) {
+                values.add(
+                    threads.submit(
+                        () -> {
+                            start.await();
+                            return cached.value();
+                        }
+                    )
+                );
+            }
+            start.countDown();
+            for (Future<Integer> value : values) {
+                assertEquals(1, value.get().intValue());
+            }
+        } finally {
+            threads.shutdownNow();
+        }
+        assertEquals(1, computations.get());
+    }
+
+    @Test
+    void waitsForValueBeingComputed() throws InterruptedException {
+        CountDownLatch computing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Cached<String> cached = new Cached<>(
+            () -> {
+                computing.countDown();
+                await(release);
+                return "value";
+            }
+        );
+        Thread first = new Thread(cached::value);
+        first.start();
+        computing.await();
+        List<String> seen = new ArrayList<>(1);
+        Thread second = new Thread(() -> seen.add(cached.value()));
+        second.start();
+        awaitWaiting(second);
+        release.countDown();
+        first.join();
+        second.join();
+        assertEquals("value", seen.get(0));
+    }
+
+    @Test
+    void computesAgainAfterFailure() {
+        AtomicInteger attempts = new AtomicInteger();
+        Cached<Integer> cached = new Cached<>(
+            () -> {
+                if (attempts.incrementAndGet() == 1) {
+                    throw new IllegalStateException("first attempt");
+                }
+                return attempts.get();
+            }
+        );
+        assertEquals(
+            "first attempt",
+            assertThrows(IllegalStateException.class, cached::value)
+                .getMessage()
+        );
+        assertEquals(2, cached.value().intValue());
+    }
+
+    @Test
+    void rethrowsErrors() {
+        assertThrows(
+            AssertionError.class,
+            new Cached<>(
+                () -> {
+                    throw new AssertionError("broken");
+                }
+            )::value
+        );
+    }
+
+    @Test
+    void tellsWhenInterruptedWhileWaiting() throws InterruptedException {
+        CountDownLatch computing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Cached<String> cached = new Cached<>(
+            () -> {
+                computing.countDown();
+                await(release);
+                return "value";
+            }
+        );
+        Thread first = new Thread(cached::value);
+        first.start();
+        computing.await();
+        Thread.currentThread().interrupt();
+        try {
+            assertThrows(IllegalStateException.class, cached::value);
+            assertTrue(Thread.interrupted());
+        } finally {
+            release.countDown();
+            first.join();
+        }
+        assertEquals("value", cached.value());
+    }
+
+    private static void awaitWaiting(Thread thread) {
+        while (thread.getState() != Thread.State.WAITING) {
+            Thread.yield();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        new Unchecked<>(
+            () -> {
+                latch.await();
+                return latch;
+            }
+        ).value();
+    }
+
+    private static void sleep() {
+        new Unchecked<>(
+            () -> {
+                Thread.sleep(50);
+                return 0;
+            }
+        ).value();
+    }
+}
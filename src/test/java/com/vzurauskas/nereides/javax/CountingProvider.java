@@ -0,0 +1,227 @@
+package com.vzurauskas.nereides.javax;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.Charset;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.json.JsonArray;
+import javax.json.JsonNumber;
+import javax.json.JsonObject;
+import javax.json.JsonReader;
+import javax.json.JsonReaderFactory;
+import javax.json.JsonString;
+import javax.json.JsonWriter;
+import javax.json.JsonWriterFactory;
+import javax.json.stream.JsonGenerator;
+import javax.json.stream.JsonGeneratorFactory;
+import javax.json.stream.JsonParser;
+import javax.json.stream.JsonParserFactory;
+import org.glassfish.json.JsonProviderImpl;
+
+/**
+ * Glassfish provider, which counts how many parsers, readers, writers,
+ * generators and values its factories have made, so tests can tell it is
+ * used instead of the default one.
+ */
+public final class CountingProvider extends JsonProviderImpl {
+    private final AtomicInteger calls = new AtomicInteger();
+
+    /**
+     * Factories of this provider.
+     * @return Factories.
+     */
+    public Factories factories() {
+        return new Factories(this);
+    }
+
+    /**
+     * How many parsers, readers, writers, generators and values have been
+     * made since the last call.
+     * @return Number of calls.
+     */
+    public int calls() {
+        return calls.getAndSet(0);
+    }
+
+    @Override
+    public JsonParserFactory createParserFactory(Map<String, ?> config) {
+        return new Parsers(super.createParserFactory(config));
+    }
+
+    @Override
+    public JsonReaderFactory createReaderFactory(Map<String, ?> config) {
+        return new Readers(super.createReaderFactory(config));
+    }
+
+    @Override
+    public JsonWriterFactory createWriterFactory(Map<String, ?> config) {
+        return new Writers(super.createWriterFactory(config));
+    }
+
+    @Override
+    public JsonGeneratorFactory createGeneratorFactory(
+        Map<String, ?> config
+    ) {
+        return new Generators(super.createGeneratorFactory(config));
+    }
+
+    @Override
+    public JsonString createValue(String value) {
+        calls.incrementAndGet();
+        return super.createValue(value);
+    }
+
+    @Override
+    public JsonNumber createValue(long value) {
+        calls.incrementAndGet();
+        return super.createValue(value);
+    }
+
+    @Override
+    public JsonNumber createValue(BigDecimal value) {
+        calls.incrementAndGet();
+        return super.createValue(value);
+    }
+
+    private final class Parsers implements JsonParserFactory {
+        private final JsonParserFactory origin;
+
+        Parsers(JsonParserFactory origin) {
+            this.origin = origin;
+        }
+
+        @Override
+        public JsonParser createParser(Reader reader) {
+            calls.incrementAndGet();
+            return origin.createParser(reader);
+        }
+
+        @Override
+        public JsonParser createParser(InputStream stream) {
+            calls.incrementAndGet();
+            return origin.createParser(stream);
+        }
+
+        @Override
+        public JsonParser createParser(InputStream stream, Charset charset) {
+            calls.incrementAndGet();
+            return origin.createParser(stream, charset);
+        }
+
+        @Override
+        public JsonParser createParser(JsonObject object) {
+            calls.incrementAndGet();
+            return origin.createParser(object);
+        }
+
+        @Override
+        public JsonParser createParser(JsonArray array) {
+            calls.incrementAndGet();
+            return origin.createParser(array);
+        }
+
+        @Override
+        public Map<String, ?> getConfigInUse() {
+            return origin.getConfigInUse();
+        }
+    }
+
+    private final class Readers implements JsonReaderFactory {
+        private final JsonReaderFactory origin;
+
+        Readers(JsonReaderFactory origin) {
+            this.origin = origin;
+        }
+
+        @Override
+        public JsonReader createReader(Reader reader) {
+            calls.incrementAndGet();
+            return origin.createReader(reader);
+        }
+
+        @Override
+        public JsonReader createReader(InputStream stream) {
+            calls.incrementAndGet();
+            return origin.createReader(stream);
+        }
+
+        @Override
+        public JsonReader createReader(InputStream stream, Charset charset) {
+            calls.incrementAndGet();
+            return origin.createReader(stream, charset);
+        }
+
+        @Override
+        public Map<String, ?> getConfigInUse() {
+            return origin.getConfigInUse();
+        }
+    }
+
+    private final class Writers implements JsonWriterFactory {
+        private final JsonWriterFactory origin;
+
+        Writers(JsonWriterFactory origin) {
+            this.origin = origin;
+        }
+
+        @Override
+        public JsonWriter createWriter(Writer writer) {
+            calls.incrementAndGet();
+            return origin.createWriter(writer);
+        }
+
+        @Override
+        public JsonWriter createWriter(OutputStream stream) {
+            calls.incrementAndGet();
+            return origin.createWriter(stream);
+        }
+
+        @Override
+        public JsonWriter createWriter(OutputStream stream, Charset charset) {
+            calls.incrementAndGet();
+            return origin.createWriter(stream, charset);
+        }
+
+        @Override
+        public Map<String, ?> getConfigInUse() {
+            return origin.getConfigInUse();
+        }
+    }
+
+    private final class Generators implements JsonGeneratorFactory {
+        private final JsonGeneratorFactory origin;
+
+        Generators(JsonGeneratorFactory origin) {
+            this.origin = origin;
+        }
+
+        @Override
+        public JsonGenerator createGenerator(Writer writer) {
+            calls.incrementAndGet();
+            return origin.createGenerator(writer);
+        }
+
+        @Override
+        public JsonGenerator createGenerator(OutputStream stream) {
+            calls.incrementAndGet();
+            return origin.createGenerator(stream);
+        }
+
+        @Override
+        public JsonGenerator createGenerator(
+            OutputStream stream, Charset charset
+        ) {
+            calls.incrementAndGet();
+            return origin.createGenerator(stream, charset);
+        }
+
+        @Override
+        public Map<String, ?> getConfigInUse() {
+            return origin.getConfigInUse();
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.vzurauskas.nereides.javax;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+final class ElementsTest {
+
+    private static final String NEREIDS = String.join(
+        "",
+        "{\"rock\":[{\"nereid\":\"Thetis\"},[1,2]],",
+        "\"ocean\":{\"deep\":[\"wave\"],\"nereids\":[",
+        "{\"nereid\":\"Amphitrite\"},{\"nereid\":\"Galene\"}]}}"
+    );
+
+    @Test
+    void iteratesOverTopLevelArray() {
+        List<String> names = new ArrayList<>(2);
+        for (
+            SmartJson nereid : new Elements(
+                new Json.Of("[{\"name\":\"Thetis\"},{\"name\":\"Galene\"}]")
+            )
+        ) {
+            names.add(nereid.leaf("name"));
+        }
+        assertEquals("[Thetis, Galene]", names.toString());
+    }
+
+    @Test
+    void streamsNestedArray() {
+        assertEquals(
+            "[Amphitrite, Galene]",
+            nereids(new Json.Of(NEREIDS), "/ocean/nereids").toString()
+        );
+    }
+
+    @Test
+    void takesAlreadyParsedArray() {
+        SmartJson json = new SmartJson(new Json.Of(NEREIDS));
+        json.jsonStructure();
+        assertEquals(
+            "[Amphitrite, Galene]",
+            nereids(json, "/ocean/nereids").toString()
+        );
+        assertEquals(
+            0, new Elements(json, new Pointer("/rock/0")).stream().count()
+        );
+    }
+
+    @Test
+    void findsArrayWithinArray() {
+        assertEquals(
+            "[Thetis]",
+            nereids(new Json.Of("[1,[{\"nereid\":\"Thetis\"}]]"), "/1")
+                .toString()
+        );
+    }
+
+    @Test
+    void refusesScalarElements() {
+        for (
+            Json json : new Json[] {
+                new Json.Of("[{\"a\":1},\"a\",[]]"),
+                new SmartJson(new Json.Of("[{\"a\":1},\"a\",[]]")).at(""),
+            }
+        ) {
+            Iterator<SmartJson> elements = new Elements(json).iterator();
+            assertEquals(1, elements.next().leafAsInt("a"));
+            assertThrows(IllegalArgumentException.class, elements::next);
+        }
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> new Elements(new Json.Of(NEREIDS), new Pointer("/rock/1"))
+                .stream().count()
+        );
+    }
+
+    @Test
+    void hasNoElementsWhereThereIsNoArray() {
+        for (
+            String path : new String[] {
+                "/ocean", "/sea", "/ocean/nereids/0", "/ocean/deep/0/x",
+                "/rock/x", "/rock/2", "/rock/5", "/ocean/nereids/1/nereid",
+            }
+        ) {
+            assertEquals(
+                0,
+                new Elements(new Json.Of(NEREIDS), new Pointer(path))
+                    .stream().count(),
+                path
+            );
+        }
+        assertEquals(0, new Elements(new MissingJson()).stream().count());
+        assertEquals(
+            0, new Elements(new SmartJson(new Json.Of("{}")).at("/no"))
+                .stream().count()
+        );
+    }
+
+    @Test
+    void endsIteration() {
+        Iterator<SmartJson> elements = new Elements(new Json.Of("[{}]"))
+            .iterator();
+        assertTrue(elements.hasNext());
+        elements.next();
+        assertFalse(elements.hasNext());
+        assertThrows(NoSuchElementException.class, elements::next);
+    }
+
+    @Test
+    void closesUnfinishedStream() {
+        try (
+            Stream<SmartJson> elements =
+                new Elements(new Json.Of("[{\"a\":1},{\"a\":2}]")).stream()
+        ) {
+            assertEquals(1, elements.findFirst().get().leafAsInt("a"));
+        }
+        new Elements(new Json.Of("[]")).stream().close();
+    }
+
+    @Test
+    void splitsForParallelProcessing() {
+        StringBuilder json = new StringBuilder("[");
+        for (int idx = 0; idx < 5000; ++idx) {
+            json.append("{\"idx\":").append(idx).append("},");
+        }
+        json.append("{\"idx\":5000}]");
+        assertEquals(
+            5001L * 5000 / 2,
+            new Elements(new Json.Of(json.toString())).stream()
+                .parallel()
+                .mapToLong(element -> element.leafAsInt("idx"))
+                .sum()
+        );
+        assertTrue(
+            new Elements(new Json.Of(json.toString())).spliterator()
+                .hasCharacteristics(Spliterator.ORDERED)
+        );
+    }
+
+    private static List<String> nereids(Json json, String path) {
+        return new Elements(json, new Pointer(path)).stream()
+            .map(nereid -> nereid.leaf("nereid"))
+            .collect(Collectors.toList());
+    }
+}
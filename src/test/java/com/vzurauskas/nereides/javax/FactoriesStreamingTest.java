@@ -0,0 +1,78 @@
+package com.vzurauskas.nereides.javax;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+final class FactoriesStreamingTest {
+
+    private static final String NEREID =
+        "{\"nereid\":{\"name\":\"Thetis\",\"ages\":[1,2]},\"rocks\":[{}]}";
+
+    private final CountingProvider provider = new CountingProvider();
+
+    @Test
+    void scansLeavesWithGivenFactories() {
+        assertEquals(
+            "Thetis",
+            new Leaves(
+                new SmartJson(new Json.Of(NEREID), provider.factories()),
+                new Pointer("/nereid/name")
+            ).leaf(0)
+        );
+        assertTrue(provider.calls() > 0);
+    }
+
+    @Test
+    void walksStructureOfNestedJsons() {
+        SmartJson nested = new SmartJson(
+            new Json.Of(NEREID), provider.factories()
+        ).at("/nereid");
+        provider.calls();
+        Leaves leaves = new Leaves(
+            nested, new Pointer("/name"), new Pointer("/ages/1")
+        );
+        assertEquals("Thetis", leaves.leaf(0));
+        assertEquals(2, leaves.leafAsInt(1));
+        assertEquals(0, provider.calls());
+    }
+
+    @Test
+    void writesNestedLeavesWithGivenFactories() {
+        SmartJson nested = new Leaves(
+            new SmartJson(new Json.Of(NEREID), provider.factories()),
+            new Pointer("/nereid")
+        ).at(0);
+        provider.calls();
+        assertEquals("Thetis", nested.leaf("name"));
+        assertTrue(nested.pretty().contains("Thetis"));
+        assertTrue(provider.calls() > 0);
+    }
+
+    @Test
+    void readsNumbersWithGivenFactories() {
+        assertArrayEquals(
+            new int[] {1, 2},
+            new Numbers(
+                new Json.Of(NEREID), new Pointer("/nereid/ages"),
+                provider.factories()
+            ).ints()
+        );
+        assertTrue(provider.calls() > 0);
+    }
+
+    @Test
+    void streamsElementsWithGivenFactories() {
+        assertEquals(
+            "[{}]",
+            new Elements(
+                new Json.Of(NEREID), new Pointer("/rocks"),
+                provider.factories()
+            ).stream().map(SmartJson::textual)
+                .collect(Collectors.toList()).toString()
+        );
+        assertTrue(provider.calls() > 0);
+    }
+}
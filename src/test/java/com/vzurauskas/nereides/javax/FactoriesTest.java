@@ -0,0 +1,77 @@
+package com.vzurauskas.nereides.javax;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.nio.charset.StandardCharsets;
+import javax.json.JsonStructure;
+import org.junit.jupiter.api.Test;
+
+final class FactoriesTest {
+
+    private static final String NEREID =
+        "{\"nereid\":{\"name\":\"Thetis\",\"ages\":[1,2]}}";
+
+    private final CountingProvider provider = new CountingProvider();
+
+    private final Factories factories = new Factories(provider);
+
+    @Test
+    void parsesWithGivenFactories() {
+        SmartJson json = new SmartJson(new Json.Of(NEREID), factories);
+        assertEquals("Thetis", json.at("/nereid").leaf("name"));
+        assertUsed();
+        assertEquals(
+            "{\n    \"name\": \"Thetis\",\n    \"ages\": [\n        1,\n"
+                + "        2\n    ]\n}",
+            json.at("/nereid").pretty().trim()
+        );
+        assertUsed();
+        assertEquals(
+            "Thetis",
+            new SmartJson(new Json.Of(NEREID), new Parsing.Lazy(factories))
+                .at("/nereid").leaf("name")
+        );
+        assertUsed();
+    }
+
+    @Test
+    void buildsWithGivenFactories() {
+        MutableJson json = new MutableJson(factories)
+            .with("name", "Galene")
+            .with("age", 100);
+        assertEquals("{\"name\":\"Galene\",\"age\":100}", json.toString());
+        assertUsed();
+        assertEquals(
+            "{\"name\":\"Galene\",\"age\":100,\"hair\":\"black\"}",
+            new MutableJson(new Json.Of(json.toString()), factories)
+                .with("hair", "black")
+                .toString()
+        );
+        assertUsed();
+    }
+
+    @Test
+    void writesWithGivenFactories() {
+        JsonStructure structure = new SmartJson(new Json.Of("[1,2]"))
+            .jsonStructure();
+        assertEquals("[1,2]", new Json.Of(structure, factories).toString());
+        assertUsed();
+        assertEquals("[1,2]", new Json.Of(() -> structure).toString());
+    }
+
+    @Test
+    void makesTapeValuesWithGivenFactories() {
+        String json = "{\"a\":[\"b\",1]}";
+        assertEquals(
+            json,
+            new TapeParsing(factories)
+                .structure(new Json.Of(json.getBytes(StandardCharsets.UTF_8)))
+                .toString()
+        );
+        assertUsed();
+    }
+
+    private void assertUsed() {
+        assertTrue(provider.calls() > 0);
+    }
+}
@@ -0,0 +1,83 @@
+package com.vzurauskas.nereides.javax;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import org.junit.jupiter.api.Test;
+
+final class FileJsonTest {
+
+    @Test
+    void readsFile() throws IOException, URISyntaxException {
+        Path path = Paths.get(
+            FileJsonTest.class.getClassLoader().getResource("deep.json").toURI()
+        );
+        Json json = new FileJson(path);
+        byte[] bytes = Files.readAllBytes(path);
+        assertArrayEquals(bytes, new ByteArray(json).value());
+        assertArrayEquals(bytes, new ByteArray(json).value());
+    }
+
+    @Test
+    void parsesAcrossChunks() throws IOException {
+        SmartJson json = new SmartJson(
+            new FileJson(file("{\"nereid\":{\"name\":\"Thetis\"}}"), 3)
+        );
+        assertEquals("Thetis", json.at("/nereid").leaf("name"));
+        assertEquals(
+            "Thetis",
+            new SmartJson(json, new Parsing.Lazy())
+                .at("/nereid").leaf("name")
+        );
+    }
+
+    @Test
+    void readsByteByByte() throws IOException {
+        String string = "[1,2,3]";
+        ByteArrayOutputStream read = new ByteArrayOutputStream();
+        try (InputStream stream = new FileJson(file(string), 2).bytes()) {
+            assertEquals(0, stream.read(new byte[1], 0, 0));
+            for (int data = stream.read(); data >= 0; data = stream.read()) {
+                read.write(data);
+            }
+            assertEquals(-1, stream.read(new byte[1], 0, 1));
+        }
+        assertEquals(string, read.toString());
+    }
+
+    @Test
+    void readsEmptyFile() throws IOException {
+        assertEquals("", new FileJson(file("")).toString());
+    }
+
+    @Test
+    void writesItself() throws IOException {
+        String string = "{\"a\":[1,{\"b\":null}]}";
+        new WriteAssertion(new FileJson(file(string)), string).affirm();
+        new WriteAssertion(new FileJson(file(string), 4), string).affirm();
+    }
+
+    @Test
+    void failsIfFileIsMissing() {
+        assertThrows(
+            UncheckedIOException.class,
+            () -> new FileJson(Paths.get("no", "such.json")).bytes()
+        );
+    }
+
+    private static Path file(String content) throws IOException {
+        File file = File.createTempFile("nereides", ".json");
+        file.deleteOnExit();
+        Files.write(file.toPath(), content.getBytes());
+        return file.toPath();
+    }
+}
@@ -0,0 +1,103 @@
+package com.vzurauskas.nereides.javax;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import java.net.URISyntaxException;
+import java.nio.file.Paths;
+import javax.json.JsonException;
+import javax.json.JsonObject;
+import org.junit.jupiter.api.Test;
+
+final class InternedParsingTest {
+
+    @Test
+    void parsesLikeFullParsing() throws URISyntaxException {
+        final Json deep = new Json.Of(
+            Paths.get(
+                InternedParsingTest.class.getClassLoader()
+                    .getResource("deep.json").toURI()
+            )
+        );
+        assertEquals(
+            new SmartJson(deep).jsonStructure(),
+            new SmartJson(deep, new InternedParsing()).jsonStructure()
+        );
+        final String array =
+            "[1,-2.5,\"a\",true,false,null,[],{},[{\"b\":[]}]]";
+        assertEquals(
+            array,
+            new SmartJson(new Json.Of(array), new InternedParsing(10, 5))
+                .textual()
+        );
+    }
+
+    @Test
+    void sharesFieldNames() {
+        Parsing parsing = new InternedParsing();
+        JsonObject first = object(parsing, "{\"nereid\":\"Thetis\"}");
+        JsonObject second = object(parsing, "{\"nereid\":\"Thetis\"}");
+        assertSame(name(first), name(second));
+        assertNotSame(
+            first.getString("nereid"), second.getString("nereid")
+        );
+    }
+
+    @Test
+    void sharesShortValues() {
+        Parsing parsing = new InternedParsing(10, 6);
+        JsonObject first = object(
+            parsing, "[{\"a\":\"Thetis\",\"b\":\"Galene\"}]"
+        );
+        JsonObject second = object(
+            parsing, "[{\"a\":\"Thetis\",\"b\":\"Galene!\"}]"
+        );
+        assertSame(first.getString("a"), second.getString("a"));
+        assertNotSame(first.getString("b"), second.getString("b"));
+    }
+
+    @Test
+    void stopsSharingWhenFull() {
+        Parsing parsing = new InternedParsing(1, 0);
+        assertSame(
+            name(object(parsing, "{\"a\":1}")),
+            name(object(parsing, "{\"a\":2}"))
+        );
+        assertNotSame(
+            name(object(parsing, "{\"b\":1}")),
+            name(object(parsing, "{\"b\":2}"))
+        );
+    }
+
+    @Test
+    void takesStructureWhichIsThere() {
+        MutableJson json = new MutableJson().with("a", 1);
+        assertSame(
+            json.structure(), new InternedParsing().structure(json)
+        );
+    }
+
+    @Test
+    void refusesScalars() {
+        assertThrows(
+            JsonException.class,
+            () -> new InternedParsing().structure(new Json.Of("1234"))
+        );
+    }
+
+    private static JsonObject object(Parsing parsing, String json) {
+        final SmartJson smart = new SmartJson(new Json.Of(json), parsing);
+        final JsonObject object;
+        if (smart.jsonStructure() instanceof JsonObject) {
+            object = smart.jsonStructure().asJsonObject();
+        } else {
+            object = smart.jsonStructure().asJsonArray().getJsonObject(0);
+        }
+        return object;
+    }
+
+    private static String name(JsonObject object) {
+        return object.keySet().iterator().next();
+    }
+}
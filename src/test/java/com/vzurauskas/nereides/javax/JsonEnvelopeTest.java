@@ -1,6 +1,7 @@
 package com.vzurauskas.nereides.javax;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import java.io.IOException;
 import org.junit.jupiter.api.Test;
 
 final class JsonEnvelopeTest {
@@ -21,6 +22,14 @@ final class JsonEnvelopeTest {
         );
     }
 
+    @Test
+    void writesOrigin() throws IOException {
+        new WriteAssertion(
+            new TestJsonEnvelope(new Json.Of("{\"number\": 12}")),
+            "{\"number\": 12}"
+        ).affirm();
+    }
+
     private static final class TestJsonEnvelope extends JsonEnvelope {
         TestJsonEnvelope(Json origin) {
             super(origin);
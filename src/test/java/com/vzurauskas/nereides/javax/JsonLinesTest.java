@@ -0,0 +1,148 @@
+package com.vzurauskas.nereides.javax;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+final class JsonLinesTest {
+
+    private static final String LINES = String.join(
+        "",
+        "{\"nereid\":\"Thetis\"}\n",
+        "\n",
+        "{\"nereid\":\"Galene\",\"hair\":\"black\"}\r\n",
+        "\r\n",
+        "[1,2,3]"
+    );
+
+    @Test
+    void splitsLines() {
+        assertEquals(
+            "[{\"nereid\":\"Thetis\"}, "
+                + "{\"nereid\":\"Galene\",\"hair\":\"black\"}, [1,2,3]]",
+            lines(new JsonLines(stream(LINES))).toString()
+        );
+    }
+
+    @Test
+    void splitsLinesAcrossBlocks() {
+        for (int block = 1; block < 12; ++block) {
+            ReadableByteChannel channel = Channels.newChannel(stream(LINES));
+            assertEquals(
+                lines(new JsonLines(stream(LINES))),
+                lines(new JsonLines(() -> channel, block)),
+                String.valueOf(block)
+            );
+        }
+    }
+
+    @Test
+    void keepsLinesAfterMovingOn() throws IOException {
+        List<Json> lines = new JsonLines(() -> channel(LINES), 4).stream()
+            .collect(Collectors.toList());
+        assertEquals(
+            "Galene", new SmartJson(lines.get(1)).leaf("nereid")
+        );
+        assertEquals("Thetis", new SmartJson(lines.get(0)).leaf("nereid"));
+        new WriteAssertion(lines.get(2), "[1,2,3]").affirm();
+    }
+
+    @Test
+    void readsFileAgain() throws IOException {
+        File file = File.createTempFile("nereides", ".jsonl");
+        file.deleteOnExit();
+        Files.write(file.toPath(), "{\"a\":1}\n{\"a\":2}\n".getBytes());
+        JsonLines lines = new JsonLines(file.toPath());
+        for (int idx = 0; idx < 2; ++idx) {
+            assertEquals(
+                3,
+                lines.stream()
+                    .mapToInt(line -> new SmartJson(line).leafAsInt("a"))
+                    .sum()
+            );
+        }
+    }
+
+    @Test
+    void readsChannel() {
+        int count = 0;
+        for (Json line : new JsonLines(channel("{}\n{}\n{}"))) {
+            assertEquals("{}", line.toString());
+            ++count;
+        }
+        assertEquals(3, count);
+    }
+
+    @Test
+    void readsNothing() {
+        assertEquals(0, new JsonLines(stream("")).stream().count());
+        assertEquals(0, new JsonLines(stream("\n\r\n\r")).stream().count());
+        assertFalse(
+            new JsonLines(channel("")).spliterator().tryAdvance(line -> { })
+        );
+    }
+
+    @Test
+    void closesSource() {
+        ReadableByteChannel channel = channel("{}\n{}\n");
+        try (Stream<Json> lines = new JsonLines(channel).stream()) {
+            lines.findFirst();
+        }
+        assertFalse(channel.isOpen());
+    }
+
+    @Test
+    void failsIfFileIsMissing() {
+        assertThrows(
+            UncheckedIOException.class,
+            () -> new JsonLines(Paths.get("no", "such.jsonl")).stream()
+        );
+    }
+
+    private static List<String> lines(JsonLines lines) {
+        return lines.stream()
+            .map(Json::toString)
+            .collect(Collectors.toList());
+    }
+
+    @Test
+    void readsPrettyJsonsWritten() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (JsonLinesWriter writer = new JsonLinesWriter(output)) {
+            writer
+                .write(new Json.Of("{\n \"a\": \"1\\n2\"\n}"))
+                .write(new SmartJson(new Json.Of("[1,\r\n2]")))
+                .write(new Json.Of("\r\n"));
+        }
+        assertEquals("{ \"a\": \"1\\n2\"}\n[1,2]\n\n", output.toString());
+        Iterator<Json> lines = new JsonLines(
+            new ByteArrayInputStream(output.toByteArray())
+        ).iterator();
+        assertEquals("1\n2", new SmartJson(lines.next()).leaf("a"));
+        assertEquals(
+            "[1,2]", new SmartJson(lines.next()).jsonStructure().toString()
+        );
+    }
+
+    private static ByteArrayInputStream stream(String lines) {
+        return new ByteArrayInputStream(lines.getBytes());
+    }
+
+    private static ReadableByteChannel channel(String lines) {
+        return Channels.newChannel(stream(lines));
+    }
+}
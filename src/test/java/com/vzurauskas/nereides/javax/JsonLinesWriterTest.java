@@ -0,0 +1,79 @@
+package com.vzurauskas.nereides.javax;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import org.junit.jupiter.api.Test;
+
+final class JsonLinesWriterTest {
+
+    @Test
+    void writesLines() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (JsonLinesWriter writer = new JsonLinesWriter(output)) {
+            writer
+                .write(new MutableJson().with("nereid", "Thetis"))
+                .write(new Json.Of("[1,2]"));
+        }
+        assertEquals("{\"nereid\":\"Thetis\"}\n[1,2]\n", output.toString());
+    }
+
+    @Test
+    void buffersLines() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        JsonLinesWriter writer = new JsonLinesWriter(output, 8);
+        writer.write(new Json.Of("{}")).write(new Json.Of("{}"));
+        assertEquals("", output.toString());
+        writer.write(new Json.Of("{}"));
+        assertEquals("{}\n{}\n{}", output.toString());
+        writer.flush();
+        assertEquals("{}\n{}\n{}\n", output.toString());
+        writer.write(new Json.Of("[1,2,3,4,5]"));
+        assertEquals("{}\n{}\n{}\n[1,2,3,4,5]", output.toString());
+        writer.close();
+        assertEquals("{}\n{}\n{}\n[1,2,3,4,5]\n", output.toString());
+    }
+
+    @Test
+    void copiesLines() throws IOException {
+        String lines = "{\"a\":1}\n[]\n{\"b\":{}}\n";
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (
+            JsonLinesWriter writer =
+                new JsonLinesWriter(Channels.newChannel(output))
+        ) {
+            writer.write(
+                new JsonLines(new ByteArrayInputStream(lines.getBytes()))
+            );
+        }
+        assertEquals(lines, output.toString());
+    }
+
+    @Test
+    void putsBytesOnSingleLine() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (JsonLinesWriter writer = new JsonLinesWriter(output)) {
+            writer.write(
+                new Json() {
+                    @Override
+                    public InputStream bytes() {
+                        return new ByteArrayInputStream("[\r\n]".getBytes());
+                    }
+
+                    @Override
+                    public void writeTo(OutputStream stream)
+                        throws IOException {
+                        for (final byte data : "[\r\n]".getBytes()) {
+                            stream.write(data);
+                        }
+                    }
+                }
+            );
+        }
+        assertEquals("[]\n", output.toString());
+    }
+}
@@ -11,6 +11,12 @@ import java.net.URISyntaxException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import javax.json.JsonStructure;
 import javax.json.JsonWriter;
 import org.junit.jupiter.api.Test;
@@ -118,4 +124,74 @@ final class JsonOfTest {
         file.delete();
         assertArrayEquals(string.getBytes(), new ByteArray(json).value());
     }
+
+    @Test
+    void canReadInputStreamTwice() {
+        byte[] bytes = "{\"number\": 12}".getBytes();
+        Json json = new Json.Of(new ByteArrayInputStream(bytes));
+        assertArrayEquals(bytes, new ByteArray(json).value());
+        assertArrayEquals(bytes, new ByteArray(json).value());
+    }
+
+    @Test
+    void readsBytesConcurrently()
+        throws InterruptedException, ExecutionException {
+        byte[] bytes = large().getBytes();
+        assertReadConcurrently(bytes, new Json.Of(bytes));
+    }
+
+    @Test
+    void readsStringConcurrently()
+        throws InterruptedException, ExecutionException {
+        String string = large();
+        assertReadConcurrently(string.getBytes(), new Json.Of(string));
+    }
+
+    @Test
+    void readsInputStreamConcurrently()
+        throws InterruptedException, ExecutionException {
+        byte[] bytes = large().getBytes();
+        assertReadConcurrently(
+            bytes, new Json.Of(new ByteArrayInputStream(bytes))
+        );
+    }
+
+    private static void assertReadConcurrently(byte[] expected, Json json)
+        throws InterruptedException, ExecutionException {
+        ExecutorService threads = Executors.newFixedThreadPool(16);
+        try {
+            List<Future<byte[]>> reads = new ArrayList<>(1000);
+            for (int idx = 0; idx < 1000; ++idx) {
+                reads.add(threads.submit(() -> new ByteArray(json).value()));
+            }
+            for (Future<byte[]> read : reads) {
+                assertArrayEquals(expected, read.get());
+            }
+        } finally {
+            threads.shutdownNow();
+        }
+    }
+
+    private static String large() {
+        StringBuilder json = new StringBuilder("[");
+        for (int idx = 0; idx < 2000; ++idx) {
+            json.append("{\"name\":\"nereid").append(idx).append("\"},");
+        }
+        return json.append("{}]").toString();
+    }
+
+    @Test
+    void writesItself() throws IOException {
+        String json = "{\"a\":[1,{\"b\":null}]}";
+        new WriteAssertion(new Json.Of(json), json).affirm();
+        new WriteAssertion(
+            new Json.Of(new ByteArrayInputStream(json.getBytes())), json
+        ).affirm();
+        Json parsed = new Json.Of(
+            new SmartJson(new Json.Of(json)).jsonStructure()
+        );
+        new WriteAssertion(parsed, json).affirm();
+        parsed.bytes();
+        new WriteAssertion(parsed, json).affirm();
+    }
 }
@@ -0,0 +1,61 @@
+package com.vzurauskas.nereides.javax;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import org.junit.jupiter.api.Test;
+
+final class JsonTest {
+
+    @Test
+    void writesBytesByDefault() throws IOException {
+        new WriteAssertion(
+            () -> new ByteArrayInputStream("{\"a\":[1,2]}".getBytes()),
+            "{\"a\":[1,2]}"
+        ).affirm();
+    }
+
+    @Test
+    void writesByteByByteToBuffer() throws IOException {
+        new WriteAssertion(new ByteByByte("[true]"), "[true]").affirm();
+    }
+
+    @Test
+    void writesThroughSmartJson() throws IOException {
+        new WriteAssertion(
+            new SmartJson(new ByteByByte("{\"a\": 1}")), "{\"a\": 1}"
+        ).affirm();
+    }
+
+    @Test
+    void refusesToOverflowBuffer() {
+        assertThrows(
+            BufferOverflowException.class,
+            () -> new ByteByByte("[true]").writeTo(ByteBuffer.allocate(5))
+        );
+    }
+
+    private static final class ByteByByte implements Json {
+        private final String json;
+
+        ByteByByte(String json) {
+            this.json = json;
+        }
+
+        @Override
+        public InputStream bytes() {
+            return new ByteArrayInputStream(json.getBytes());
+        }
+
+        @Override
+        public void writeTo(OutputStream output) throws IOException {
+            for (byte data : json.getBytes()) {
+                output.write(data);
+            }
+        }
+    }
+}
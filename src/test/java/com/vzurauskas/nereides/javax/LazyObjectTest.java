@@ -0,0 +1,73 @@
+package com.vzurauskas.nereides.javax;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import javax.json.JsonObject;
+import javax.json.JsonValue;
+import org.junit.jupiter.api.Test;
+
+final class LazyObjectTest {
+
+    private static final String JSON = "{\"string\":\"value\",\"int\":7,"
+        + "\"true\":true,\"false\":false,\"null\":null,\"array\":[1,2],"
+        + "\"object\":{\"nested\":\"yes\"}}";
+
+    @Test
+    void givesTypedValues() {
+        JsonObject object = lazy();
+        assertEquals(2, object.getJsonArray("array").size());
+        assertEquals("yes", object.getJsonObject("object").getString("nested"));
+        assertEquals(7, object.getJsonNumber("int").intValue());
+        assertEquals("value", object.getJsonString("string").getString());
+        assertEquals("value", object.getString("string"));
+        assertEquals(7, object.getInt("int"));
+        assertTrue(object.getBoolean("true"));
+        assertFalse(object.getBoolean("false"));
+        assertTrue(object.isNull("null"));
+        assertFalse(object.isNull("string"));
+    }
+
+    @Test
+    void fallsBackToDefaults() {
+        JsonObject object = lazy();
+        assertEquals("value", object.getString("string", "default"));
+        assertEquals("default", object.getString("int", "default"));
+        assertEquals(7, object.getInt("int", 1));
+        assertEquals(1, object.getInt("string", 1));
+        assertTrue(object.getBoolean("true", false));
+        assertFalse(object.getBoolean("false", true));
+        assertTrue(object.getBoolean("string", true));
+    }
+
+    @Test
+    void refusesNonBooleans() {
+        JsonObject object = lazy();
+        assertThrows(ClassCastException.class, () -> object.getBoolean("int"));
+        assertThrows(
+            NullPointerException.class,
+            () -> object.getBoolean("nothing")
+        );
+    }
+
+    @Test
+    void behavesAsMap() {
+        JsonObject object = lazy();
+        assertTrue(object.containsKey("string"));
+        assertFalse(object.containsKey("nothing"));
+        assertNull(object.get(7));
+        assertEquals(JsonValue.ValueType.OBJECT, object.getValueType());
+        assertEquals(7, object.size());
+        assertEquals(new SmartJson(new Json.Of(JSON)).jsonStructure(), object);
+        assertEquals(
+            new SmartJson(new Json.Of(JSON)).jsonStructure().toString(),
+            lazy().toString()
+        );
+    }
+
+    private static JsonObject lazy() {
+        return new LazyObject(new Json.Of(JSON), new Parsing.Full());
+    }
+}
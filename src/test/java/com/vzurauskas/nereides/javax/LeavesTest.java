@@ -0,0 +1,178 @@
+package com.vzurauskas.nereides.javax;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.math.BigDecimal;
+import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+final class LeavesTest {
+
+    private final Path deep;
+
+    LeavesTest() throws URISyntaxException {
+        this.deep = Paths.get(
+            LeavesTest.class.getClassLoader()
+                .getResource("deep.json").toURI()
+        );
+    }
+
+    @Test
+    void findsValuesWithoutParsing() {
+        AtomicInteger parsed = new AtomicInteger();
+        SmartJson json = new SmartJson(
+            new Json.Of(deep),
+            origin -> {
+                parsed.incrementAndGet();
+                return new Parsing.Full().structure(origin);
+            }
+        );
+        Leaves leaves = leaves(json);
+        assertEquals("black", leaves.leaf(0));
+        assertEquals(100, leaves.leafAsInt(1));
+        assertEquals(77.5, leaves.leafAsDouble(2));
+        assertTrue(leaves.leafAsBool(3));
+        assertEquals("Thetis", leaves.leaf(4));
+        assertEquals("blonde", leaves.at(5).leaf("hair"));
+        assertFalse(leaves.has(6));
+        assertEquals(0, parsed.get());
+    }
+
+    @Test
+    void findsValuesInParsedJson() {
+        SmartJson json = new SmartJson(new Json.Of(deep));
+        json.jsonStructure();
+        Leaves leaves = leaves(json);
+        assertEquals("black", leaves.leaf(0));
+        assertEquals(100, leaves.leafAsInt(1));
+        assertEquals(77.5, leaves.leafAsDouble(2));
+        assertTrue(leaves.leafAsBool(3));
+        assertEquals("Thetis", leaves.leaf(4));
+        assertEquals("blonde", leaves.at(5).leaf("hair"));
+        assertFalse(leaves.has(6));
+    }
+
+    @Test
+    void stopsWhenAllAreFound() {
+        Leaves leaves = new Leaves(
+            new SmartJson(
+                new Json.Of("[{\"b\":1,\"c\":2},{\"b\":3},{\"b\":")
+            ),
+            new Pointer("/0/b"), new Pointer("/1/b")
+        );
+        assertEquals(1, leaves.leafAsInt(0));
+        assertEquals(3, leaves.leafAsInt(1));
+    }
+
+    @Test
+    void takesLastOfRepeatedNames() {
+        SmartJson json = new SmartJson(
+            new Json.Of("{\"a\":1,\"a\":2,\"b\":3}")
+        );
+        Leaves scanned = new Leaves(json, new Pointer("/a"), new Pointer("/b"));
+        assertEquals(2, scanned.leafAsInt(0));
+        assertTrue(scanned.has(1));
+        assertEquals(3, scanned.leafAsInt(1));
+        json.jsonStructure();
+        Leaves walked = new Leaves(json, new Pointer("/a"), new Pointer("/b"));
+        assertEquals(2, walked.leafAsInt(0));
+        assertEquals(3, walked.leafAsInt(1));
+    }
+
+    @Test
+    void throwsForValuesOfOtherTypes() {
+        Leaves leaves = new Leaves(
+            new SmartJson(
+                new Json.Of("{\"a\":\"text\",\"b\":1,\"d\":false}")
+            ),
+            new Pointer("/a"), new Pointer("/b"), new Pointer("/c"),
+            new Pointer("/d")
+        );
+        assertTrue(leaves.has(0));
+        assertFalse(leaves.leafAsBool(3));
+        assertEquals(
+            "No such field of specified type: /a",
+            assertThrows(
+                IllegalArgumentException.class, () -> leaves.leafAsInt(0)
+            ).getMessage()
+        );
+        assertThrows(
+            IllegalArgumentException.class, () -> leaves.leafAsDouble(0)
+        );
+        assertThrows(IllegalArgumentException.class, () -> leaves.leaf(1));
+        assertThrows(
+            IllegalArgumentException.class, () -> leaves.leafAsBool(1)
+        );
+        assertThrows(IllegalArgumentException.class, () -> leaves.leaf(2));
+        assertTrue(leaves.at(0).isMissing());
+    }
+
+    @Test
+    void findsLongAndBigDecimal() {
+        final String text =
+            "{\"id\":9007199254740993,\"price\":12345678901234.5678901}";
+        for (int parsed = 0; parsed < 2; ++parsed) {
+            SmartJson json = new SmartJson(new Json.Of(text));
+            if (parsed == 1) {
+                json.jsonStructure();
+            }
+            Leaves leaves = new Leaves(
+                json, new Pointer("/id"), new Pointer("/price")
+            );
+            assertEquals(9007199254740993L, leaves.leafAsLong(0));
+            assertEquals(9007199254740993L, leaves.leafAsLong(0, -1L));
+            assertEquals(
+                new BigDecimal("12345678901234.5678901"),
+                leaves.leafAsBigDecimal(1)
+            );
+            assertEquals(
+                new BigDecimal(9007199254740993L), leaves.leafAsBigDecimal(0)
+            );
+        }
+    }
+
+    @Test
+    void returnsFallbacksForValuesOfOtherTypes() {
+        Leaves leaves = new Leaves(
+            new SmartJson(
+                new Json.Of("{\"a\":\"text\",\"b\":7,\"d\":false,\"e\":true}")
+            ),
+            new Pointer("/a"), new Pointer("/b"), new Pointer("/c"),
+            new Pointer("/d"), new Pointer("/e")
+        );
+        assertEquals(-1, leaves.leafAsInt(0, -1));
+        assertEquals(7, leaves.leafAsInt(1, -1));
+        assertEquals(-1L, leaves.leafAsLong(2, -1L));
+        assertEquals(7L, leaves.leafAsLong(1, -1L));
+        assertEquals(0.5, leaves.leafAsDouble(3, 0.5));
+        assertEquals(7.0, leaves.leafAsDouble(1, 0.5));
+        assertTrue(leaves.leafAsBool(0, true));
+        assertFalse(leaves.leafAsBool(2, false));
+        assertFalse(leaves.leafAsBool(3, true));
+        assertTrue(leaves.leafAsBool(4, false));
+        assertThrows(
+            IllegalArgumentException.class, () -> leaves.leafAsLong(0)
+        );
+        assertThrows(
+            IllegalArgumentException.class, () -> leaves.leafAsBigDecimal(2)
+        );
+    }
+
+    private static Leaves leaves(SmartJson json) {
+        return new Leaves(
+            json,
+            new Pointer("/ocean/rock1/nereid1/hair"),
+            new Pointer("/ocean/rock1/nereid1/age"),
+            new Pointer("/ocean/rock1/nereid2/age"),
+            new Pointer("/ocean/rock2/nereid3/fair"),
+            new Pointer("/ocean/rock1/nereid1/associates/1/name"),
+            new Pointer("/ocean/rock2/nereid3"),
+            new Pointer("/ocean/rock3")
+        );
+    }
+}
@@ -1,6 +1,8 @@
 package com.vzurauskas.nereides.javax;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import java.io.IOException;
 import java.net.URISyntaxException;
 import java.nio.file.Paths;
 import org.junit.jupiter.api.Test;
@@ -96,6 +98,37 @@ final class MutableJsonTest {
         ).affirm();
     }
 
+    @Test
+    void replacesFieldInPlace() {
+        assertEquals(
+            "{\"first\":\"changed\",\"second\":2}",
+            new MutableJson()
+                .with("first", "original")
+                .with("second", 2)
+                .with("first", "changed")
+                .toString()
+        );
+    }
+
+    @Test
+    void takesNamesLiterally() {
+        assertEquals(
+            "{\"a/b\":1,\"~0\":false}",
+            new MutableJson().with("a/b", 1).with("~0", false).toString()
+        );
+    }
+
+    @Test
+    void writesAgainOnlyAfterChange() {
+        MutableJson json = new MutableJson().with("field", 1);
+        assertEquals(
+            new String(new ByteArray(json.bytes()).value()),
+            new String(new ByteArray(json.bytes()).value())
+        );
+        json.with("other", true);
+        assertEquals("{\"field\":1,\"other\":true}", json.toString());
+    }
+
     @Test
     void toStringOnEmpty() {
         assertEquals(
@@ -103,4 +136,45 @@ final class MutableJsonTest {
             new MutableJson().toString()
         );
     }
+
+    @Test
+    void writesItselfBeforeAndAfterGivingBytes() throws IOException {
+        MutableJson json = new MutableJson().with("a", 1).with("b", "c");
+        new WriteAssertion(json, "{\"a\":1,\"b\":\"c\"}").affirm();
+        json.bytes();
+        new WriteAssertion(json, "{\"a\":1,\"b\":\"c\"}").affirm();
+    }
+
+    @Test
+    void writesArraysOfPrimitives() throws IOException {
+        int[] ints = {1, -2};
+        MutableJson json = new MutableJson()
+            .with("ints", ints)
+            .with("longs", new long[] {9007199254740993L})
+            .with("doubles", new double[] {0.5, 2.0});
+        ints[0] = 7;
+        final String text =
+            "{\"ints\":[1,-2],\"longs\":[9007199254740993],"
+                + "\"doubles\":[0.5,2.0]}";
+        new WriteAssertion(json, text).affirm();
+        assertEquals(text, json.toString());
+        assertEquals(
+            "[0.5,2.0]",
+            new SmartJson(new MutableJson().with("array", json))
+                .at("/array/doubles").jsonStructure().toString()
+        );
+        assertEquals(
+            9007199254740993L,
+            new SmartJson(json).jsonStructure().asJsonObject()
+                .getJsonArray("longs").getJsonNumber(0).longValue()
+        );
+    }
+
+    @Test
+    void refusesArraysOfNotNumbers() {
+        assertThrows(
+            NumberFormatException.class,
+            () -> new MutableJson().with("a", new double[] {1.0, Double.NaN})
+        );
+    }
 }
@@ -0,0 +1,158 @@
+package com.vzurauskas.nereides.javax;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import java.nio.BufferOverflowException;
+import java.nio.DoubleBuffer;
+import java.nio.LongBuffer;
+import org.junit.jupiter.api.Test;
+
+final class NumbersTest {
+
+    private static final String VECTORS = String.join(
+        "",
+        "{\"name\":\"Thetis\",\"skip\":[[1],{\"a\":[2]}],",
+        "\"vectors\":[[1,2.5,-3,9007199254740993],[]],\"mixed\":[1,\"2\"],",
+        "\"exact\":[1,-3.0,9007199254740993,4E+2]}"
+    );
+
+    @Test
+    void readsNumbersFromBytes() {
+        Numbers numbers = new Numbers(
+            new Json.Of(VECTORS), new Pointer("/vectors/0")
+        );
+        assertArrayEquals(
+            new long[] {1, -3, 9007199254740993L, 400},
+            new Numbers(new Json.Of(VECTORS), new Pointer("/exact")).longs()
+        );
+        assertArrayEquals(
+            new double[] {1, 2.5, -3, 9007199254740993.0},
+            numbers.doubles()
+        );
+    }
+
+    @Test
+    void readsNumbersFromStructure() {
+        SmartJson json = new SmartJson(new Json.Of(VECTORS));
+        json.jsonStructure();
+        Numbers numbers = new Numbers(json, new Pointer("/vectors/0"));
+        assertArrayEquals(
+            new long[] {1, -3, 9007199254740993L, 400},
+            new Numbers(json, new Pointer("/exact")).longs()
+        );
+        assertArrayEquals(
+            new double[] {1, 2.5, -3, 9007199254740993.0},
+            numbers.doubles()
+        );
+        assertArrayEquals(
+            new long[] {3, 4},
+            new Numbers(
+                new MutableJson().with("a", new int[] {3, 4}),
+                new Pointer("/a")
+            ).longs()
+        );
+    }
+
+    @Test
+    void putsNumbersIntoBuffers() {
+        Numbers numbers = new Numbers(new Json.Of("[4,5,6]"));
+        LongBuffer longs = LongBuffer.allocate(4);
+        longs.put(1);
+        assertEquals(3, numbers.into(longs));
+        assertArrayEquals(new long[] {1, 4, 5, 6}, longs.array());
+        DoubleBuffer doubles = DoubleBuffer.allocate(3);
+        assertEquals(3, numbers.into(doubles));
+        assertArrayEquals(new double[] {4, 5, 6}, doubles.array());
+        assertThrows(
+            BufferOverflowException.class,
+            () -> numbers.into(DoubleBuffer.allocate(2))
+        );
+    }
+
+    @Test
+    void hasNoNumbersWhereThereIsNoArray() {
+        for (String path : new String[] {"/vectors/1", "/name", "/none"}) {
+            assertEquals(
+                0,
+                new Numbers(new Json.Of(VECTORS), new Pointer(path))
+                    .longs().length
+            );
+            SmartJson json = new SmartJson(new Json.Of(VECTORS));
+            json.jsonStructure();
+            assertEquals(
+                0, new Numbers(json, new Pointer(path)).doubles().length
+            );
+        }
+        assertEquals(0, new Numbers(new MissingJson()).ints().length);
+    }
+
+    @Test
+    void throwsForElementsWhichAreNotNumbers() {
+        assertEquals(
+            "Not all elements are numbers: /mixed",
+            assertThrows(
+                IllegalArgumentException.class,
+                () -> new Numbers(new Json.Of(VECTORS), new Pointer("/mixed"))
+                    .longs()
+            ).getMessage()
+        );
+        SmartJson json = new SmartJson(new Json.Of(VECTORS));
+        json.jsonStructure();
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> new Numbers(json, new Pointer("/vectors")).doubles()
+        );
+    }
+
+    @Test
+    void throwsForNumbersWhichDoNotFitExactly() {
+        SmartJson json = new SmartJson(new Json.Of(VECTORS));
+        json.jsonStructure();
+        for (Json source : new Json[] {new Json.Of(VECTORS), json}) {
+            assertEquals(
+                "Not all elements fit exactly: 2.5 at /vectors/0",
+                assertThrows(
+                    IllegalArgumentException.class,
+                    () -> new Numbers(source, new Pointer("/vectors/0"))
+                        .longs()
+                ).getMessage()
+            );
+            assertThrows(
+                IllegalArgumentException.class,
+                () -> new Numbers(source, new Pointer("/exact")).ints()
+            );
+        }
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> new Numbers(new Json.Of("[1e30]")).longs()
+        );
+        assertArrayEquals(
+            new int[] {-2147483648, 2147483647, 5},
+            new Numbers(new Json.Of("[-2147483648,2147483647,5.0]")).ints()
+        );
+    }
+
+    @Test
+    void takesLastOfRepeatedNames() {
+        Json json = new Json.Of(
+            "{\"v\":[1],\"w\":{\"v\":[4]},\"v\":[2,3],"
+                + "\"o\":{\"a\":[5]},\"o\":{\"b\":[6]},"
+                + "\"o\":{\"a\":[7],\"b\":1}}"
+        );
+        SmartJson parsed = new SmartJson(json);
+        parsed.jsonStructure();
+        for (Json source : new Json[] {json, parsed}) {
+            assertArrayEquals(
+                new int[] {2, 3}, new Numbers(source, new Pointer("/v")).ints()
+            );
+            assertArrayEquals(
+                new int[] {7},
+                new Numbers(source, new Pointer("/o/a")).ints()
+            );
+            assertEquals(
+                0, new Numbers(source, new Pointer("/o/b")).ints().length
+            );
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.vzurauskas.nereides.javax;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import org.junit.jupiter.api.Test;
+
+final class OffHeapJsonTest {
+
+    private static final String NEREID =
+        "{\"nereid\":{\"name\":\"Thetis\",\"sisters\":[\"Amphitrite\"]}}";
+
+    @Test
+    void readsAcrossBlocks() throws IOException {
+        try (
+            OffHeapJson json = new OffHeapJson(
+                new Json.Of(NEREID), new Slab(4, 8)
+            )
+        ) {
+            assertEquals(NEREID, json.toString());
+            assertEquals(
+                "Thetis", new SmartJson(json).at("/nereid").leaf("name")
+            );
+            assertEquals("Amphitrite", new Nereid(json).sister());
+            new WriteAssertion(json, NEREID).affirm();
+        }
+    }
+
+    @Test
+    void copiesByteByByte() {
+        Json json = new Json() {
+            @Override
+            public InputStream bytes() {
+                return new Json.Of(NEREID).bytes();
+            }
+
+            @Override
+            public void writeTo(OutputStream output) throws IOException {
+                for (byte data : NEREID.getBytes()) {
+                    output.write(data);
+                }
+            }
+        };
+        try (OffHeapJson copy = new OffHeapJson(json, new Slab(4, 8))) {
+            assertEquals(NEREID, copy.toString());
+        }
+    }
+
+    @Test
+    void keepsEmptyJson() {
+        Slab slab = new Slab(4, 8);
+        try (OffHeapJson json = new OffHeapJson(new Json.Of(""), slab)) {
+            assertEquals("", json.toString());
+        }
+        assertEquals(0, slab.reserved());
+    }
+
+    @Test
+    void releasesAfterLastHolder() {
+        Slab slab = new Slab(16, 8);
+        OffHeapJson json = new OffHeapJson(new Json.Of(NEREID), slab);
+        assertEquals(64, slab.available());
+        assertSame(json, json.retain());
+        json.close();
+        assertEquals(NEREID, json.toString());
+        json.close();
+        assertEquals(slab.reserved(), slab.available());
+        assertThrows(IllegalStateException.class, json::bytes);
+        assertThrows(IllegalStateException.class, json::retain);
+        assertThrows(IllegalStateException.class, json::close);
+        assertThrows(
+            IllegalStateException.class,
+            () -> json.writeTo(ByteBuffer.allocate(100))
+        );
+    }
+
+    private static final class Nereid extends JsonEnvelope {
+        Nereid(Json origin) {
+            super(origin);
+        }
+
+        String sister() {
+            return new SmartJson(this, new Parsing.Lazy())
+                .leaf(new Pointer("/nereid/sisters/0"));
+        }
+    }
+}
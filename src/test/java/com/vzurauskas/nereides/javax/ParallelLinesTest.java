@@ -0,0 +1,120 @@
+package com.vzurauskas.nereides.javax;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+final class ParallelLinesTest {
+
+    @Test
+    void parsesLinesInOrder() throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (int idx = 0; idx < 2000; ++idx) {
+            lines.append("{\"idx\":").append(idx).append('}');
+            if (idx % 7 == 0) {
+                lines.append("\r\n\n");
+            } else {
+                lines.append('\n');
+            }
+        }
+        Path path = file(lines.toString());
+        for (int minimum = 1; minimum < 40; minimum += 3) {
+            try (
+                Stream<SmartJson> parsed =
+                    new ParallelLines(path, minimum).stream()
+            ) {
+                assertEquals(
+                    new JsonLines(path).stream()
+                        .map(Json::toString)
+                        .collect(Collectors.toList()),
+                    parsed.map(SmartJson::textual)
+                        .collect(Collectors.toList()),
+                    String.valueOf(minimum)
+                );
+            }
+        }
+    }
+
+    @Test
+    void parsesLongLines() throws IOException {
+        StringBuilder line = new StringBuilder("[0");
+        for (int idx = 1; idx < 500; ++idx) {
+            line.append(',').append(idx);
+        }
+        line.append(']');
+        String lines = String.join("\n", line, "[]", line);
+        try (
+            Stream<SmartJson> parsed =
+                new ParallelLines(file(lines), 16).stream()
+        ) {
+            assertEquals(
+                "[500, 0, 500]",
+                parsed.map(json -> json.jsonStructure().asJsonArray().size())
+                    .collect(Collectors.toList())
+                    .toString()
+            );
+        }
+    }
+
+    @Test
+    void runsInGivenPool()
+        throws IOException, InterruptedException, ExecutionException {
+        StringBuilder lines = new StringBuilder();
+        for (int idx = 1; idx <= 1000; ++idx) {
+            lines.append("{\"idx\":").append(idx).append("}\n");
+        }
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try (
+            Stream<SmartJson> parsed =
+                new ParallelLines(file(lines.toString()), 64).stream()
+        ) {
+            assertEquals(
+                1000 * 1001 / 2,
+                pool.submit(
+                    () -> parsed.unordered()
+                        .mapToInt(json -> json.leafAsInt("idx"))
+                        .sum()
+                ).get().intValue()
+            );
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void parsesNothing() throws IOException {
+        for (String lines : new String[] {"", "\n", "\r\n\r\n"}) {
+            try (
+                Stream<SmartJson> parsed = new ParallelLines(file(lines))
+                    .stream()
+            ) {
+                assertEquals(0, parsed.count());
+            }
+        }
+    }
+
+    @Test
+    void failsIfFileIsMissing() {
+        assertThrows(
+            UncheckedIOException.class,
+            () -> new ParallelLines(Paths.get("no", "such.jsonl")).stream()
+        );
+    }
+
+    private static Path file(String content) throws IOException {
+        File file = File.createTempFile("nereides", ".jsonl");
+        file.deleteOnExit();
+        Files.write(file.toPath(), content.getBytes());
+        return file.toPath();
+    }
+}
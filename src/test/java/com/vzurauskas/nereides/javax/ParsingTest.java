@@ -0,0 +1,134 @@
+package com.vzurauskas.nereides.javax;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.io.ByteArrayInputStream;
+import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+final class ParsingTest {
+
+    private final Path deep;
+
+    ParsingTest() throws URISyntaxException {
+        this.deep = Paths.get(
+            ParsingTest.class.getClassLoader()
+                .getResource("deep.json").toURI()
+        );
+    }
+
+    @Test
+    void parsesFully() {
+        assertEquals(
+            new SmartJson(new Json.Of(deep)).jsonStructure(),
+            new SmartJson(new Json.Of(deep), new Parsing.Full())
+                .jsonStructure()
+        );
+    }
+
+    @Test
+    void lazyTakesLastOfRepeatedNames() {
+        Json json = new Json.Of(
+            "{\"a\":1,\"o\":{\"x\":1},\"a\":2,\"o\":{\"x\":2,\"x\":3},"
+                + "\"p\":{\"q\":{}},\"p\":1}"
+        );
+        SmartJson lazy = new SmartJson(json, new Parsing.Lazy());
+        SmartJson full = new SmartJson(json);
+        assertEquals(2, lazy.leafAsInt("a"));
+        assertEquals(full.leafAsInt("a"), lazy.leafAsInt("a"));
+        assertEquals(3, lazy.leafAsInt(new Pointer("/o/x")));
+        assertEquals(
+            full.leafAsInt(new Pointer("/o/x")),
+            lazy.leafAsInt(new Pointer("/o/x"))
+        );
+        assertTrue(lazy.at("/p/q").isMissing());
+        assertEquals(
+            2,
+            new SmartJson(
+                new Json.Of("{\"p\":1,\"p\":{\"q\":2}}"), new Parsing.Lazy()
+            ).leafAsInt(new Pointer("/p/q"))
+        );
+    }
+
+    @Test
+    void lazySkipsUnrelatedFields() {
+        assertEquals(
+            "route",
+            new SmartJson(
+                new Json.Of(
+                    "{\"crowd\":[{\"a\":1},[2]],\"ocean\":{\"rock\":{}},"
+                        + "\"flag\":true,\"type\":\"route\"}"
+                ),
+                new Parsing.Lazy()
+            ).leaf("type")
+        );
+    }
+
+    @Test
+    void lazyFindsPaths() {
+        SmartJson json = new SmartJson(new Json.Of(deep), new Parsing.Lazy());
+        assertEquals("red", json.at("/ocean/rock1/nereid2").leaf("hair"));
+        assertEquals(
+            "Thetis",
+            json.at("/ocean/rock1/nereid1/associates/1").leaf("name")
+        );
+        assertTrue(json.at("/ocean/nothing").isMissing());
+        assertFalse(json.optLeaf("nothing").isPresent());
+    }
+
+    @Test
+    void lazyReadsWholeWhenNeeded() {
+        assertEquals(
+            new SmartJson(new Json.Of(deep)).pretty(),
+            new SmartJson(new Json.Of(deep), new Parsing.Lazy()).pretty()
+        );
+        assertEquals(
+            new SmartJson(new Json.Of(deep)).at("/ocean/rock1").textual(),
+            new SmartJson(new Json.Of(deep), new Parsing.Lazy())
+                .at("/ocean/rock1").textual()
+        );
+    }
+
+    @Test
+    void lazyStopsStreamingOnceReadWhole() {
+        AtomicInteger reads = new AtomicInteger();
+        SmartJson json = new SmartJson(
+            () -> {
+                reads.incrementAndGet();
+                return new ByteArrayInputStream(
+                    "{\"a\":\"b\",\"c\":{\"d\":\"e\"}}".getBytes()
+                );
+            },
+            new Parsing.Lazy()
+        );
+        SmartJson nested = json.at("/c");
+        assertEquals(2, json.jsonStructure().asJsonObject().size());
+        int before = reads.get();
+        assertEquals("b", json.leaf("a"));
+        assertEquals("e", nested.leaf("d"));
+        assertEquals(before, reads.get());
+    }
+
+    @Test
+    void lazyParsesArraysFully() {
+        assertEquals(
+            new SmartJson(new Json.Of("[1,{\"a\":2}]")).jsonStructure(),
+            new SmartJson(new Json.Of("[1,{\"a\":2}]"), new Parsing.Lazy())
+                .jsonStructure()
+        );
+    }
+
+    @Test
+    void lazyTellsWhenMalformed() {
+        assertThrows(
+            RuntimeException.class,
+            () -> new SmartJson(new Json.Of("malformed"), new Parsing.Lazy())
+                .jsonStructure()
+        );
+    }
+}
@@ -0,0 +1,105 @@
+package com.vzurauskas.nereides.javax;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.Arrays;
+import javax.json.JsonStructure;
+import javax.json.JsonValue;
+import org.junit.jupiter.api.Test;
+
+final class PointerTest {
+
+    private final JsonStructure json = new SmartJson(
+        new Json.Of(
+            "{\"ocean\":{\"rocks\":[{\"name\":\"rock1\"},{\"name\":\"rock2\"}],"
+                + "\"depth\":7},\"a/b\":{\"m~n\":\"escaped\"},\"\":\"empty\"}"
+        )
+    ).jsonStructure();
+
+    @Test
+    void findsValuesInObjectsAndArrays() {
+        assertEquals(
+            "\"rock2\"",
+            new Pointer("/ocean/rocks/1/name").value(json).get().toString()
+        );
+        assertEquals(
+            "\"rock1\"",
+            new Pointer("/ocean/rocks/0/name").value(json).get().toString()
+        );
+    }
+
+    @Test
+    void pointsToWholeWhenEmpty() {
+        assertEquals(json, new Pointer("").value(json).get());
+    }
+
+    @Test
+    void unescapesNames() {
+        assertEquals(
+            "\"escaped\"",
+            new Pointer("/a~1b/m~0n").value(json).get().toString()
+        );
+        assertEquals(
+            "\"empty\"",
+            new Pointer("/").value(json).get().toString()
+        );
+    }
+
+    @Test
+    void findsNothingWhereThereIsNothing() {
+        for (
+            String path : Arrays.asList(
+                "/nothing", "/ocean/nothing", "/ocean/rocks/2",
+                "/ocean/rocks/-", "/ocean/rocks/01", "/ocean/rocks/a",
+                "/ocean/rocks/1234567890", "/ocean/rocks/", "/ocean/depth/1",
+                "/ocean/rocks/1/name/x"
+            )
+        ) {
+            assertFalse(new Pointer(path).value(json).isPresent(), path);
+        }
+    }
+
+    @Test
+    void refusesPathsNotStartingWithSlash() {
+        assertThrows(IllegalArgumentException.class, () -> new Pointer("a"));
+    }
+
+    @Test
+    void refusesBadEscapes() {
+        assertThrows(
+            IllegalArgumentException.class, () -> new Pointer("/a~2")
+        );
+        assertThrows(IllegalArgumentException.class, () -> new Pointer("/a~"));
+    }
+
+    @Test
+    void escapesNames() {
+        Pointer pointer = new Pointer(Arrays.asList("a/b", "m~n"));
+        assertEquals("/a~1b/m~0n", pointer.toString());
+        assertEquals(
+            JsonValue.ValueType.STRING,
+            pointer.value(json).get().getValueType()
+        );
+    }
+
+    @Test
+    void navigatesSmartJson() {
+        SmartJson smart = new SmartJson(
+            new Json.Of(
+                "{\"ocean\":{\"rock1\":{\"nereid2\":{\"hair\":\"red\"},"
+                    + "\"nereid1\":{\"associates\":[{\"name\":\"Jason\"}]}}}}"
+            )
+        );
+        assertEquals(
+            "red",
+            smart.at(new Pointer("/ocean/rock1/nereid2")).leaf("hair")
+        );
+        assertEquals(
+            "Jason",
+            smart.leaf(new Pointer("/ocean/rock1/nereid1/associates/0/name"))
+        );
+        assertTrue(smart.at(new Pointer("/ocean/nothing")).isMissing());
+    }
+}
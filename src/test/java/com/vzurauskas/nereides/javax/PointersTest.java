@@ -0,0 +1,95 @@
+package com.vzurauskas.nereides.javax;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import org.junit.jupiter.api.Test;
+
+final class PointersTest {
+
+    private final Path deep;
+
+    PointersTest() throws URISyntaxException {
+        this.deep = Paths.get(
+            PointersTest.class.getClassLoader()
+                .getResource("deep.json").toURI()
+        );
+    }
+
+    @Test
+    void scansAsItWalks() {
+        Pointer[] pointers = {
+            new Pointer("/ocean/rock2/nereid3/fair"),
+            new Pointer("/ocean/rock1"),
+            new Pointer("/ocean/rock1/nereid1/associates/1/name"),
+            new Pointer("/ocean/rock1/nereid1/associates/0"),
+            new Pointer("/ocean/rock1/nereid1/associates/-"),
+            new Pointer("/ocean/rock1/nereid1/associates/7"),
+            new Pointer("/ocean/rock1/nereid1/hair/0"),
+            new Pointer("/ocean/rock1/nereid2/age"),
+            new Pointer("/ocean/rock1/nereid1/age"),
+            new Pointer("/ocean/nothing"),
+            new Pointer(""),
+        };
+        assertArrayEquals(
+            new Pointers(pointers).values(
+                new SmartJson(new Json.Of(deep)).jsonStructure()
+            ),
+            new Pointers(pointers).values(new Json.Of(deep), Factories.SHARED)
+        );
+    }
+
+    @Test
+    void scansThroughArrays() {
+        Json json = new Json.Of(
+            "[{\"a\":[1,[2],{\"x\":1}],\"b\":{\"c\":[3,4],\"d\":{\"e\":[]}}},"
+                + "[4],5]"
+        );
+        Pointer[] pointers = {
+            new Pointer("/0/a/2/x"),
+            new Pointer("/0/a/9"),
+            new Pointer("/0/a/0/x"),
+            new Pointer("/0/b/c/0"),
+            new Pointer("/1/0"),
+            new Pointer("/5"),
+        };
+        assertArrayEquals(
+            new Pointers(pointers).values(
+                new SmartJson(json).jsonStructure()
+            ),
+            new Pointers(pointers).values(json, Factories.SHARED)
+        );
+    }
+
+    @Test
+    void scansRepeatedNamesAsItWalks() {
+        Json json = new Json.Of(
+            "{\"a\":{\"x\":1},\"a\":2,\"b\":{\"c\":1},\"b\":{\"d\":[2]},"
+                + "\"e\":[1],\"e\":{\"0\":3},\"a\":{\"y\":4}}"
+        );
+        Pointer[] pointers = {
+            new Pointer("/a/x"),
+            new Pointer("/a/y"),
+            new Pointer("/b/c"),
+            new Pointer("/b/d/0"),
+            new Pointer("/e/0"),
+            new Pointer("/e"),
+        };
+        assertArrayEquals(
+            new Pointers(pointers).values(
+                new SmartJson(json).jsonStructure()
+            ),
+            new Pointers(pointers).values(json, Factories.SHARED)
+        );
+    }
+
+    @Test
+    void showsPointers() {
+        assertEquals(
+            "[/a, /b~1c]",
+            new Pointers(new Pointer("/a"), new Pointer("/b~1c")).toString()
+        );
+    }
+}
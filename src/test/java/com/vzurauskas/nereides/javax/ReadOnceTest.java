@@ -0,0 +1,73 @@
+package com.vzurauskas.nereides.javax;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+final class ReadOnceTest {
+
+    @Test
+    void failsAgainIfInputStreamFailsPartway() {
+        AtomicInteger closed = new AtomicInteger();
+        Json json = new Json.Of(
+            new FilterInputStream(
+                new ByteArrayInputStream(
+                    "{\"a\":1,\"b\":2}".getBytes(StandardCharsets.UTF_8)
+                )
+            ) {
+                private int left = 5;
+
+                @Override
+                public int read(byte[] target, int offset, int length)
+                    throws IOException {
+                    if (left == 0) {
+                        throw new IOException("Failed at byte 5");
+                    }
+                    final int size = super.read(target, offset, left);
+                    left -= size;
+                    return size;
+                }
+
+                @Override
+                public void close() throws IOException {
+                    closed.incrementAndGet();
+                    super.close();
+                }
+            }
+        );
+        for (int idx = 0; idx < 2; ++idx) {
+            assertEquals(
+                "Failed at byte 5",
+                assertThrows(UncheckedIOException.class, json::toString)
+                    .getCause().getMessage()
+            );
+        }
+        assertEquals(1, closed.get());
+    }
+
+    @Test
+    void readsOnlyOnce() {
+        AtomicInteger reads = new AtomicInteger();
+        ReadOnce<Integer> failing = new ReadOnce<>(
+            () -> {
+                reads.incrementAndGet();
+                throw new IllegalStateException("Failed");
+            }
+        );
+        assertSame(
+            assertThrows(IllegalStateException.class, failing::get),
+            assertThrows(IllegalStateException.class, failing::get)
+        );
+        assertEquals(1, reads.get());
+        assertEquals(
+            1, new ReadOnce<>(reads::getAndIncrement).get().intValue()
+        );
+    }
+}
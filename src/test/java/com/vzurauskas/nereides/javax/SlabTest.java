@@ -0,0 +1,83 @@
+package com.vzurauskas.nereides.javax;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
+import org.junit.jupiter.api.Test;
+
+final class SlabTest {
+
+    @Test
+    void reusesBlocks() {
+        Slab slab = new Slab(8, 4);
+        for (int idx = 0; idx < 100; ++idx) {
+            new OffHeapJson(new Json.Of("{\"index\":" + idx + "}"), slab)
+                .close();
+        }
+        assertEquals(32, slab.reserved());
+        assertEquals(32, slab.available());
+    }
+
+    @Test
+    void allocatesSlabsWhenFull() {
+        Slab slab = new Slab(8, 2);
+        try (
+            OffHeapJson json = new OffHeapJson(
+                new Json.Of("{\"name\":\"Galatea\"}"), slab
+            )
+        ) {
+            assertEquals(32, slab.reserved());
+            assertEquals(8, slab.available());
+            assertEquals("{\"name\":\"Galatea\"}", json.toString());
+        }
+        assertEquals(32, slab.available());
+    }
+
+    @Test
+    void holdsWholeBlockForSmallJson() {
+        Json small = new Json.Of(
+            "{\"name\":\"Amphitrite\",\"sisters\":49,"
+                + "\"father\":\"Nereus\",\"mother\":\"Doris\","
+                + "\"home\":\"the Aegean Sea\",\"husband\":\"Poseidon\"}"
+        );
+        Slab slab = new Slab();
+        try (OffHeapJson json = new OffHeapJson(small, slab)) {
+            assertEquals(64 << 10, slab.reserved() - slab.available());
+        }
+        Slab fitting = new Slab(128, 8);
+        try (OffHeapJson json = new OffHeapJson(small, fitting)) {
+            assertEquals(128, fitting.reserved() - fitting.available());
+        }
+    }
+
+    @Test
+    void givesBlocksBackIfCopyFails() {
+        Slab slab = new Slab(4, 8);
+        Json failing = () -> new SequenceInputStream(
+            new Json.Of("[\"Nereus\",\"Doris\"]").bytes(),
+            new InputStream() {
+                @Override
+                public int read() throws IOException {
+                    throw new IOException("Failed");
+                }
+            }
+        );
+        assertThrows(
+            UncheckedIOException.class, () -> new OffHeapJson(failing, slab)
+        );
+        assertEquals(slab.reserved(), slab.available());
+    }
+
+    @Test
+    void refusesInvalidSizes() {
+        assertThrows(IllegalArgumentException.class, () -> new Slab(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new Slab(1, 0));
+        assertThrows(
+            IllegalArgumentException.class, () -> new Slab(1 << 20, 1025)
+        );
+        assertEquals(0, new Slab().reserved());
+    }
+}
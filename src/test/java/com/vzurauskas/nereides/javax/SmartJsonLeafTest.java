@@ -154,9 +154,8 @@ final class SmartJsonLeafTest {
     }
 
     @Test
-    void returnsZeroIfOptLeafIsNotInt() {
-        assertEquals(
-            0,
+    void returnsEmptyOptionalIfLeafIsNotInt() {
+        assertFalse(
             new SmartJson(
                 new Json.Of(
                     javax.json.Json.createObjectBuilder()
@@ -164,15 +163,15 @@ final class SmartJsonLeafTest {
                         .add("intField", 5)
                         .build()
                 )
-            ).optLeafAsInt("stringField").get().intValue()
+            ).optLeafAsInt("stringField").isPresent()
         );
     }
 
     @Test
-    void returnsZeroIfLeafIsNotInt() {
-        assertEquals(
-            0,
-            new SmartJson(
+    void throwsIfLeafIsNotInt() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> new SmartJson(
                 new Json.Of(
                     javax.json.Json.createObjectBuilder()
                         .add("stringField", "stringValue")
@@ -427,4 +426,43 @@ final class SmartJsonLeafTest {
             ).leafAsBool("stringField")
         );
     }
+
+    // Pointer
+
+    @Test
+    void findsLeavesByPointer() {
+        SmartJson json = new SmartJson(
+            new Json.Of(
+                "{\"nested\":{\"string\":\"value\",\"int\":14,"
+                    + "\"double\":14.9,\"bool\":true}}"
+            )
+        );
+        assertEquals("value", json.leaf(new Pointer("/nested/string")));
+        assertEquals(14, json.leafAsInt(new Pointer("/nested/int")));
+        assertEquals(0, json.leafAsInt(new Pointer("/nested/string"), 0));
+        assertEquals(14.9, json.leafAsDouble(new Pointer("/nested/double")));
+        assertTrue(json.leafAsBool(new Pointer("/nested/bool")));
+        assertFalse(json.leafAsBool(new Pointer("/nested/int")));
+    }
+
+    @Test
+    void throwsForNonexistentLeavesByPointer() {
+        SmartJson json = new SmartJson(new Json.Of("{\"nested\":{}}"));
+        Pointer pointer = new Pointer("/nested/nonexistent");
+        assertTrue(
+            assertThrows(
+                IllegalArgumentException.class,
+                () -> json.leaf(pointer)
+            ).getMessage().contains("/nested/nonexistent")
+        );
+        assertThrows(
+            IllegalArgumentException.class, () -> json.leafAsInt(pointer)
+        );
+        assertThrows(
+            IllegalArgumentException.class, () -> json.leafAsDouble(pointer)
+        );
+        assertThrows(
+            IllegalArgumentException.class, () -> json.leafAsBool(pointer)
+        );
+    }
 }
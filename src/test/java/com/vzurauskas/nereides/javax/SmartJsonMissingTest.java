@@ -0,0 +1,59 @@
+package com.vzurauskas.nereides.javax;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+final class SmartJsonMissingTest {
+
+    @Test
+    void knowsMissingJson() {
+        assertTrue(new SmartJson(new SmartJson(new MissingJson())).isMissing());
+        assertTrue(
+            new SmartJson(new Json.Of("{}")).at("/nereid").isMissing()
+        );
+    }
+
+    @Test
+    void knowsStructureIsNotMissing() {
+        SmartJson json = new SmartJson(
+            new Json.Of("{\"nereid\":{\"name\":\"Thetis\"}}")
+        );
+        json.jsonStructure();
+        assertFalse(json.isMissing());
+        assertFalse(json.at("/nereid").isMissing());
+        assertFalse(new SmartJson(new MutableJson()).isMissing());
+    }
+
+    @Test
+    void readsOnlyFirstByte() {
+        AtomicInteger read = new AtomicInteger();
+        SmartJson json = new SmartJson(
+            () -> new ByteArrayInputStream("{\"a\":1}".getBytes()) {
+                @Override
+                public synchronized int read(byte[] data, int off, int len) {
+                    final int size = super.read(data, off, len);
+                    read.addAndGet(size);
+                    return size;
+                }
+            }
+        );
+        assertFalse(json.isMissing());
+        assertFalse(json.isMissing());
+        assertEquals(1, read.get());
+        assertTrue(new SmartJson(new Json.Of("")).isMissing());
+    }
+
+    @Test
+    void takesBytesAlreadyRead() {
+        SmartJson empty = new SmartJson(new Json.Of(""));
+        empty.byteArray();
+        assertTrue(empty.isMissing());
+        SmartJson json = new SmartJson(new Json.Of("[]"));
+        json.byteArray();
+        assertFalse(json.isMissing());
+    }
+}
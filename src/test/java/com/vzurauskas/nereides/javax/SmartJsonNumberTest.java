@@ -0,0 +1,88 @@
+package com.vzurauskas.nereides.javax;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.math.BigDecimal;
+import org.junit.jupiter.api.Test;
+
+final class SmartJsonNumberTest {
+
+    private static final SmartJson NEREID = new SmartJson(
+        new Json.Of(
+            "{\"name\":\"Thetis\",\"age\":3000,\"born\":-12345678901,"
+                + "\"weight\":0.10000000000000000001,\"immortal\":true}"
+        )
+    );
+
+    @Test
+    void findsLeafAsLong() {
+        assertEquals(
+            -12345678901L,
+            NEREID.optLeafAsLong(new Pointer("/born")).getAsLong()
+        );
+        assertEquals(-12345678901L, NEREID.leafAsLong(new Pointer("/born")));
+    }
+
+    @Test
+    void findsLeafAsBigDecimal() {
+        assertEquals(
+            new BigDecimal("0.10000000000000000001"),
+            NEREID.leafAsBigDecimal(new Pointer("/weight"))
+        );
+        assertEquals(
+            new BigDecimal("-12345678901"),
+            NEREID.optLeafAsBigDecimal(new Pointer("/born")).get()
+        );
+    }
+
+    @Test
+    void givesNothingForNonNumbers() {
+        assertFalse(NEREID.optLeafAsLong(new Pointer("/name")).isPresent());
+        assertFalse(NEREID.optLeafAsLong(new Pointer("/sisters")).isPresent());
+        assertFalse(
+            NEREID.optLeafAsBigDecimal(new Pointer("/name")).isPresent()
+        );
+        assertFalse(NEREID.optLeafAsDouble(new Pointer("/name")).isPresent());
+        assertFalse(NEREID.optLeafAsInt(new Pointer("/name")).isPresent());
+        assertFalse(NEREID.optLeaf(new Pointer("/born")).isPresent());
+    }
+
+    @Test
+    void throwsForNonNumbers() {
+        assertTrue(
+            assertThrows(
+                IllegalArgumentException.class,
+                () -> NEREID.leafAsLong(new Pointer("/name"))
+            ).getMessage().contains("No such field")
+        );
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> NEREID.leafAsBigDecimal(new Pointer("/immortal"))
+        );
+    }
+
+    @Test
+    void findsLeavesWithFallbacks() {
+        assertEquals(3000, NEREID.leafAsInt(new Pointer("/age"), 7));
+        assertEquals(
+            -12345678901L, NEREID.leafAsLong(new Pointer("/born"), 7L)
+        );
+        assertEquals(0.1, NEREID.leafAsDouble(new Pointer("/weight"), 7.0));
+        assertTrue(NEREID.leafAsBool(new Pointer("/immortal"), false));
+    }
+
+    @Test
+    void fallsBackForOtherLeaves() {
+        assertEquals(7, NEREID.leafAsInt(new Pointer("/name"), 7));
+        assertEquals(7L, NEREID.leafAsLong(new Pointer("/sisters"), 7L));
+        assertEquals(7.0, NEREID.leafAsDouble(new Pointer("/name"), 7.0));
+        assertTrue(NEREID.leafAsBool(new Pointer("/name"), true));
+        assertFalse(NEREID.leafAsBool(new Pointer("/sisters"), false));
+        assertFalse(
+            new SmartJson(new Json.Of("{\"immortal\":false}"))
+                .leafAsBool(new Pointer("/immortal"), true)
+        );
+    }
+}
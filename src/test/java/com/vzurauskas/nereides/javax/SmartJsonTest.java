@@ -4,12 +4,19 @@ import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.net.URISyntaxException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import javax.json.JsonStructure;
-import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 
 final class SmartJsonTest {
@@ -32,7 +39,7 @@ final class SmartJsonTest {
             new ByteArray(
                 new SmartJson(
                     new Json.Of(bytes)
-                )
+                ).bytes()
             ).value()
         );
     }
@@ -130,7 +137,16 @@ final class SmartJsonTest {
         );
     }
 
-    @Disabled("https://github.com/vzurauskas/nereides-javax/issues/26")
+    @Test
+    void handlesPathsToLeaves() {
+        SmartJson json = new SmartJson(
+            new Json.Of("{\"name\":\"Thetis\",\"ages\":[1,null]}")
+        );
+        assertTrue(json.at("/name").isMissing());
+        assertTrue(json.at("/ages/0").isMissing());
+        assertTrue(json.at("/ages/1").isMissing());
+    }
+
     @Test
     void understandsArrays() {
         String array = "[{\"name\":\"Jason\"},{\"name\":\"Thetis\"}]";
@@ -144,7 +160,6 @@ final class SmartJsonTest {
         );
     }
 
-    @Disabled("https://github.com/vzurauskas/nereides-javax/issues/26")
     @Test
     void reallyUnderstandsArrays() {
         assertEquals(
@@ -156,6 +171,28 @@ final class SmartJsonTest {
         );
     }
 
+    @Test
+    void navigatesWithoutReparsing() {
+        AtomicInteger reads = new AtomicInteger();
+        SmartJson json = new SmartJson(
+            () -> {
+                reads.incrementAndGet();
+                return new Json.Of(deep).bytes();
+            }
+        );
+        assertEquals(
+            "Thetis",
+            json.at("/ocean").at("/rock1").at("/nereid1/associates")
+                .at("/1").leaf("name")
+        );
+        assertEquals(1, reads.get());
+    }
+
+    @Test
+    void handlesInvalidPaths() {
+        assertTrue(new SmartJson(new Json.Of(deep)).at("ocean").isMissing());
+    }
+
     @Test
     void knowsIfMissing() {
         assertTrue(new SmartJson(new MissingJson()).isMissing());
@@ -182,4 +219,31 @@ final class SmartJsonTest {
         assertEquals("value1", json.leaf("field1"));
         assertEquals("value1", json.leaf("field1"));
     }
+
+    @Test
+    void parsesOnceWhenSharedBetweenThreads()
+        throws InterruptedException, ExecutionException {
+        AtomicInteger reads = new AtomicInteger();
+        SmartJson json = new SmartJson(
+            () -> {
+                reads.incrementAndGet();
+                return new ByteArrayInputStream(
+                    "{\"field1\":\"value1\"}".getBytes()
+                );
+            }
+        );
+        ExecutorService threads = Executors.newFixedThreadPool(16);
+        try {
+            List<Future<String>> leaves = new ArrayList<>(500);
+            for (int idx = 0; idx < 500; ++idx) {
+                leaves.add(threads.submit(() -> json.leaf("field1")));
+            }
+            for (Future<String> leaf : leaves) {
+                assertEquals("value1", leaf.get());
+            }
+        } finally {
+            threads.shutdownNow();
+        }
+        assertEquals(1, reads.get());
+    }
 }
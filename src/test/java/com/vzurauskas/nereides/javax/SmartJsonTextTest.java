@@ -0,0 +1,103 @@
+package com.vzurauskas.nereides.javax;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+final class SmartJsonTextTest {
+
+    @Test
+    void keepsCompactText() {
+        String json = String.join(
+            "",
+            "{\"name\":\"Th\\u00e9tis\",",
+            "\"a b\":\"x\\\" \\\\\",\"c\":1.0}"
+        );
+        assertEquals(json, new SmartJson(new Json.Of(json)).textual());
+        assertEquals(
+            json,
+            new SmartJson(new Json.Of(json), new Parsing.Lazy()).textual()
+        );
+    }
+
+    @Test
+    void writesOutSpacedText() {
+        for (
+            String json : new String[] {
+                "{ \"a\":[1,2]}", "{\"a\":\n[1,2]}", "{\"a\":[1,\t2]}",
+                "{\"a\":[1,2]}\r",
+            }
+        ) {
+            assertEquals(
+                "{\"a\":[1,2]}", new SmartJson(new Json.Of(json)).textual()
+            );
+        }
+    }
+
+    @Test
+    void writesOutValueWithoutTrailingText() {
+        assertEquals(
+            "{\"a\":1}", new SmartJson(new Json.Of("{\"a\":1}}")).textual()
+        );
+        assertEquals("[1]", new SmartJson(new Json.Of("[1][2]")).textual());
+        assertEquals(
+            "{\"a\":1}",
+            new SmartJson(new Json.Of("{\"a\":1}}"), new Parsing.Lazy())
+                .textual()
+        );
+        assertThrows(
+            RuntimeException.class,
+            () -> new SmartJson(new Json.Of("{\"a\":1"), new Parsing.Lazy())
+                .textual()
+        );
+    }
+
+    @Test
+    void writesOutOtherEncodings() {
+        assertEquals(
+            "{\"a\":\"b\"}",
+            new SmartJson(
+                new Json.Of("{\"a\":\"b\"}".getBytes(StandardCharsets.UTF_16LE))
+            ).textual()
+        );
+        assertEquals(
+            "[\"\u00e9\"]",
+            new SmartJson(
+                new Json.Of(
+                    "\uFEFF[\"\u00e9\"]".getBytes(StandardCharsets.UTF_8)
+                )
+            ).textual()
+        );
+    }
+
+    @Test
+    void readsOriginOnce() {
+        AtomicInteger reads = new AtomicInteger();
+        SmartJson json = new SmartJson(
+            () -> {
+                reads.incrementAndGet();
+                return new ByteArrayInputStream("{\"a\": 1}".getBytes());
+            }
+        );
+        for (int idx = 0; idx < 3; ++idx) {
+            assertEquals("{\"a\":1}", json.textual());
+            assertEquals("{\n    \"a\": 1\n}", json.pretty().trim());
+            assertEquals("{\"a\": 1}", json.toString());
+            assertEquals(8, json.byteArray().length);
+        }
+        assertEquals(2, reads.get());
+        assertSame(json.textual(), json.textual());
+    }
+
+    @Test
+    void givesCopyOfBytes() {
+        SmartJson json = new SmartJson(new Json.Of("[1]"));
+        json.byteArray()[1] = '2';
+        assertArrayEquals("[1]".getBytes(), json.byteArray());
+    }
+}
@@ -0,0 +1,237 @@
+package com.vzurauskas.nereides.javax;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.net.URISyntaxException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.stream.Collectors;
+import javax.json.JsonArray;
+import javax.json.JsonException;
+import javax.json.JsonObject;
+import javax.json.JsonStructure;
+import javax.json.JsonValue;
+import org.junit.jupiter.api.Test;
+
+final class TapeParsingTest {
+
+    private static final String VALUES = String.join(
+        "",
+        " \n\r\t{\"escaped\":",
+        "\"\\\"\\\\\\/\\b\\f\\n\\r\\t\\u0041\\ud83d\\ude00.\",",
+        "\"unicode\":\"\u0398\u03ad\u03c4\u03b9\u03c2\",",
+        "\"a\\\"b\":1,\"ab\":2,\"ac\":3,",
+        "\"numbers\":[0,-1,2.5,1e3,-1.5E-2,12345678901234567890,1E+2],",
+        "\"empty\":{},\"none\":[],\"flags\":[true,false,null],",
+        "\"nested\":{\"deep\":[{\"name\":\"Thetis\"}]}}"
+    );
+
+    @Test
+    void parsesLikeFullParsing() throws URISyntaxException {
+        final Json deep = new Json.Of(
+            Paths.get(
+                TapeParsingTest.class.getClassLoader()
+                    .getResource("deep.json").toURI()
+            )
+        );
+        same(deep);
+        same(new Json.Of(VALUES.getBytes(StandardCharsets.UTF_8)));
+        same(
+            new Json.Of(
+                String.join(",", Collections.nCopies(100, "[0]"))
+                    .replaceFirst("^", "[").concat("]")
+                    .getBytes(StandardCharsets.UTF_8)
+            )
+        );
+    }
+
+    @Test
+    void findsValues() {
+        SmartJson json = new SmartJson(
+            new Json.Of(VALUES.getBytes(StandardCharsets.UTF_8)),
+            new TapeParsing()
+        );
+        assertEquals("\"\\/\b\f\n\r\tA\ud83d\ude00.", json.leaf("escaped"));
+        assertEquals("\u0398\u03ad\u03c4\u03b9\u03c2", json.leaf("unicode"));
+        assertEquals(1, json.leafAsInt("a\"b"));
+        assertEquals(2, json.leafAsInt("ab"));
+        assertEquals(3, json.leafAsInt("ac"));
+        assertFalse(json.optLeaf("a").isPresent());
+        assertEquals("Thetis", json.at("/nested/deep/0").leaf("name"));
+        assertEquals(-0.015, json.leafAsDouble(new Pointer("/numbers/4")));
+        assertTrue(json.leafAsBool(new Pointer("/flags/0")));
+        assertTrue(json.at("/empty").jsonStructure().asJsonObject().isEmpty());
+        assertNull(json.jsonStructure().asJsonObject().get(7));
+        assertArrayEquals(
+            new double[] {0, -1, 2.5, 1000, -0.015, 1.2345678901234567E19, 100},
+            new Numbers(json, new Pointer("/numbers")).doubles()
+        );
+        assertEquals(
+            "[Thetis]",
+            new Elements(json, new Pointer("/nested/deep")).stream()
+                .map(element -> element.leaf("name"))
+                .collect(Collectors.toList()).toString()
+        );
+    }
+
+    @Test
+    void iteratesOverFields() {
+        JsonObject object = new SmartJson(
+            new Json.Of("{\"b\":1,\"a\":[2],\"c\":{}}"), new TapeParsing()
+        ).jsonStructure().asJsonObject();
+        assertEquals(3, object.size());
+        assertEquals("[b, a, c]", object.keySet().toString());
+        Iterator<Map.Entry<String, JsonValue>> fields =
+            object.entrySet().iterator();
+        fields.next();
+        assertEquals("[2]", fields.next().getValue().toString());
+        assertEquals("{\"b\":1,\"a\":[2],\"c\":{}}", object.toString());
+        assertEquals(2, object.getJsonArray("a").getInt(0));
+    }
+
+    @Test
+    void keepsLastOfRepeatedFieldsLikeFullParsing() {
+        Json json = new Json.Of("{\"a\":1,\"b\":2,\"a\":{\"c\":3},\"b\":4}");
+        JsonObject object = new SmartJson(json, new TapeParsing())
+            .jsonStructure().asJsonObject();
+        JsonObject full = new SmartJson(json).jsonStructure().asJsonObject();
+        assertEquals(2, object.size());
+        assertEquals(4, object.getInt("b"));
+        assertEquals("{\"a\":{\"c\":3},\"b\":4}", object.toString());
+        assertEquals(full.toString(), object.toString());
+        assertEquals(full, object);
+        assertEquals(object, full);
+        assertEquals(full.hashCode(), object.hashCode());
+        assertEquals(
+            3,
+            new SmartJson(json, new TapeParsing())
+                .leafAsInt(new Pointer("/a/c"))
+        );
+    }
+
+    @Test
+    void givesTypedElements() {
+        JsonArray array = new SmartJson(
+            new Json.Of(
+                "[{\"a\":1},[2],3,\"four\",true,false,null,12345678901234567]"
+            ),
+            new TapeParsing()
+        ).jsonStructure().asJsonArray();
+        assertEquals(JsonValue.ValueType.ARRAY, array.getValueType());
+        assertEquals(1, array.getJsonObject(0).getInt("a"));
+        assertEquals(2, array.getJsonArray(1).getInt(0));
+        assertEquals(3, array.getJsonNumber(2).intValue());
+        assertEquals("four", array.getJsonString(3).getString());
+        assertEquals("four", array.getString(3));
+        assertEquals("four", array.getString(3, "none"));
+        assertEquals("none", array.getString(2, "none"));
+        assertEquals("none", array.getString(8, "none"));
+        assertEquals("none", array.getString(-1, "none"));
+        assertEquals(3, array.getInt(2));
+        assertEquals(3, array.getInt(2, 0));
+        assertEquals(0, array.getInt(3, 0));
+        assertEquals(12345678901234567L, array.getJsonNumber(7).longValue());
+        assertTrue(array.getBoolean(4));
+        assertFalse(array.getBoolean(5));
+        assertThrows(ClassCastException.class, () -> array.getBoolean(2));
+        assertThrows(ClassCastException.class, () -> array.getBoolean(6));
+        assertTrue(array.getBoolean(4, false));
+        assertFalse(array.getBoolean(5, true));
+        assertTrue(array.getBoolean(6, true));
+        assertTrue(array.isNull(6));
+        assertFalse(array.isNull(5));
+        assertSame(array, array.getValuesAs(JsonValue.class));
+        assertEquals(8, array.size());
+        assertEquals(
+            "[{\"a\":1},[2],3,\"four\",true,false,null,12345678901234567]",
+            array.toString()
+        );
+    }
+
+    @Test
+    void refusesInvalidJson() {
+        for (
+            String invalid : new String[] {
+                "{\"a\":", "[1,]", "{\"a\" 1}", "{\"a\":1,}", "[01]", "[1.]",
+                "[1e]", "[-]", "[tru]", "[fals]", "[nul]", "[x]",
+                "[\"a\\x\"]", "[\"\\u12G4\"]", "[\"a\n\"]", "[\"abc",
+                "{1:2}", "\u000b{}", "[1e+]", "[1.,2]",
+            }
+        ) {
+            assertThrows(
+                JsonException.class,
+                () -> new TapeParsing().structure(new Json.Of(invalid)),
+                invalid
+            );
+        }
+    }
+
+    @Test
+    void leavesTrailingContentUnread() {
+        assertEquals(
+            1,
+            new SmartJson(new Json.Of("{\"a\":1} xyz"), new TapeParsing())
+                .leafAsInt("a")
+        );
+        assertEquals(
+            "[1]", new TapeParsing().structure(new Json.Of("[1]]")).toString()
+        );
+    }
+
+    @Test
+    void leavesOtherJsonsToFullParsing() {
+        for (
+            String charset : new String[] {"UTF-16LE", "UTF-16BE", "UTF-32LE"}
+        ) {
+            assertEquals(
+                1,
+                new SmartJson(
+                    new Json.Of(
+                        "{\"a\":1}".getBytes(Charset.forName(charset))
+                    ),
+                    new TapeParsing()
+                ).leafAsInt("a"),
+                charset
+            );
+        }
+        assertThrows(
+            RuntimeException.class,
+            () -> new TapeParsing().structure(new Json.Of("1234"))
+        );
+        assertThrows(
+            RuntimeException.class,
+            () -> new TapeParsing().structure(new Json.Of("{"))
+        );
+        assertThrows(
+            RuntimeException.class,
+            () -> new TapeParsing().structure(new Json.Of("  \n"))
+        );
+        MutableJson json = new MutableJson().with("a", 1);
+        assertSame(json.structure(), new TapeParsing().structure(json));
+        assertEquals(
+            "[]",
+            new TapeParsing().structure(
+                new Json.Of("[]".getBytes(StandardCharsets.UTF_8))
+            ).toString()
+        );
+    }
+
+    private static void same(Json json) {
+        JsonStructure full = new SmartJson(json).jsonStructure();
+        JsonStructure tape = new SmartJson(json, new TapeParsing())
+            .jsonStructure();
+        assertEquals(full, tape);
+        assertEquals(tape, full);
+        assertEquals(full.hashCode(), tape.hashCode());
+        assertEquals(full.toString(), tape.toString());
+    }
+}
@@ -0,0 +1,101 @@
+package com.vzurauskas.nereides.javax;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+final class TextJsonTest {
+
+    @Test
+    void constructsFromCharacters() {
+        StringBuilder chars = new StringBuilder("{\"name\":\"Thetis\"}");
+        Json json = new Json.Of(chars);
+        assertArrayEquals(
+            chars.toString().getBytes(StandardCharsets.UTF_8),
+            new ByteArray(json).value()
+        );
+        assertEquals("Thetis", new SmartJson(json).leaf("name"));
+        assertEquals(chars.toString(), json.toString());
+    }
+
+    @Test
+    void constructsFromReader() {
+        String string = "{\"name\":\"\u0398\u03ad\u03c4\u03b9\u03c2\"}";
+        Json json = new Json.Of(new StringReader(string));
+        assertEquals(
+            "\u0398\u03ad\u03c4\u03b9\u03c2",
+            new SmartJson(json).leaf("name")
+        );
+        assertArrayEquals(
+            string.getBytes(StandardCharsets.UTF_8),
+            new ByteArray(json).value()
+        );
+        assertEquals(string, json.toString());
+    }
+
+    @Test
+    void encodesInUtf8() {
+        String string = "{\"name\":\"\u0398\u03ad\u03c4\u03b9\u03c2\"}";
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        assertArrayEquals(bytes, new ByteArray(new Json.Of(string)).value());
+        assertEquals(string, new Json.Of(bytes).toString());
+        assertEquals(string, new SmartJson(new Json.Of(bytes)).toString());
+        assertEquals(
+            "\u0398\u03ad\u03c4\u03b9\u03c2",
+            new SmartJson(new Json.Of(bytes)).leaf("name")
+        );
+    }
+
+    @Test
+    void failsIfReaderFails() {
+        Json json = new Json.Of(new StringReader("{}") {
+            @Override
+            public int read(char[] target, int offset, int length)
+                throws IOException {
+                throw new IOException("Failed");
+            }
+        });
+        assertThrows(UncheckedIOException.class, json::bytes);
+    }
+
+    @Test
+    void failsAgainIfReaderFailsPartway() {
+        AtomicInteger closed = new AtomicInteger();
+        Json json = new Json.Of(
+            new StringReader("{\"name\":\"Thetis\"}") {
+                private int reads;
+
+                @Override
+                public int read(char[] target, int offset, int length)
+                    throws IOException {
+                    ++reads;
+                    if (reads > 1) {
+                        throw new IOException("Failed partway");
+                    }
+                    return super.read(target, offset, 3);
+                }
+
+                @Override
+                public void close() {
+                    closed.incrementAndGet();
+                    super.close();
+                }
+            }
+        );
+        for (int idx = 0; idx < 2; ++idx) {
+            assertEquals(
+                "Failed partway",
+                assertThrows(UncheckedIOException.class, json::toString)
+                    .getCause().getMessage()
+            );
+        }
+        assertThrows(UncheckedIOException.class, json::bytes);
+        assertEquals(1, closed.get());
+    }
+}
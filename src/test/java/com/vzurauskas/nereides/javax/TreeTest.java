@@ -0,0 +1,81 @@
+package com.vzurauskas.nereides.javax;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.json.JsonStructure;
+import org.junit.jupiter.api.Test;
+
+final class TreeTest {
+
+    @Test
+    void takesStructureOfJsonOf() {
+        JsonStructure structure = javax.json.Json.createObjectBuilder()
+            .add("nereid", "Thetis")
+            .build();
+        assertSame(structure, new Tree(new Json.Of(structure)).value());
+    }
+
+    @Test
+    void takesStructureOfMutableJson() {
+        MutableJson nested = new MutableJson().with("hair", "black");
+        MutableJson json = new MutableJson().with("nereid", nested);
+        assertSame(
+            new Tree(nested).value(),
+            new Tree(json).value().asJsonObject().get("nereid")
+        );
+    }
+
+    @Test
+    void takesStructureOfParsedSmartJson() {
+        AtomicInteger reads = new AtomicInteger();
+        SmartJson json = new SmartJson(
+            () -> {
+                reads.incrementAndGet();
+                return new ByteArrayInputStream("{\"a\":1}".getBytes());
+            }
+        );
+        assertFalse(new Tree(json).known().isPresent());
+        assertSame(json.jsonStructure(), new Tree(json).value());
+        assertEquals(1, reads.get());
+    }
+
+    @Test
+    void takesStructureWrappedInSmartJson() {
+        MutableJson json = new MutableJson().with("a", 1);
+        assertSame(
+            new Tree(json).value(),
+            new Tree(new SmartJson(json)).value()
+        );
+    }
+
+    @Test
+    void takesStructureOfEnvelope() {
+        MutableJson json = new MutableJson().with("a", true);
+        assertSame(
+            new Tree(json).value(),
+            new Tree(new JsonEnvelope(json) { }).value()
+        );
+    }
+
+    @Test
+    void parsesOtherJson() {
+        assertEquals(
+            "{\"a\":[1]}",
+            new Tree(
+                () -> new ByteArrayInputStream("{\"a\":[1]}".getBytes())
+            ).value().toString()
+        );
+    }
+
+    @Test
+    void keepsStructureOfMutableJsonUnchanged() {
+        MutableJson json = new MutableJson().with("a", 1);
+        JsonStructure before = new Tree(json).value();
+        json.with("b", 2);
+        assertEquals("{\"a\":1}", before.toString());
+        assertEquals("{\"a\":1,\"b\":2}", new Tree(json).value().toString());
+    }
+}
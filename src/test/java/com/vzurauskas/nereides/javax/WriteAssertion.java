@@ -0,0 +1,35 @@
+package com.vzurauskas.nereides.javax;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+public final class WriteAssertion {
+    private final Json json;
+    private final byte[] expected;
+
+    public WriteAssertion(Json json, String expected) {
+        this.json = json;
+        this.expected = expected.getBytes(StandardCharsets.UTF_8);
+    }
+
+    public void affirm() throws IOException {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        json.writeTo(stream);
+        assertArrayEquals(expected, stream.toByteArray());
+        ByteArrayOutputStream channel = new ByteArrayOutputStream();
+        json.writeTo(Channels.newChannel(channel));
+        assertArrayEquals(expected, channel.toByteArray());
+        ByteBuffer buffer = ByteBuffer.allocate(expected.length + 2);
+        buffer.put((byte) ' ');
+        json.writeTo(buffer);
+        assertArrayEquals(
+            expected,
+            Arrays.copyOfRange(buffer.array(), 1, buffer.position())
+        );
+    }
+}